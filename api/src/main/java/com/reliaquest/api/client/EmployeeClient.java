@@ -1,9 +1,15 @@
 package com.reliaquest.api.client;
 
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.metrics.CallMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,37 +21,238 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+/**
+ * Blocking client of the mock employee API. Every operation is timed as {@code employee.client.requests} by
+ * {@code operation} and {@code outcome} (see {@link CallMetrics}), with {@code employee.client.requests.active} counting
+ * calls in progress; retries and waits in the {@link com.reliaquest.api.resilience.ResilientRequestInterceptor} are
+ * part of the measured time.
+ * <p>
+ * With {@code employee.client.delta-sync} enabled, {@link #getEmployees()} and {@link #forEachEmployee(Consumer)} are
+ * served from an {@link EmployeeReplica} that fetches only the changes since its last sync.
+ * <p>
+ * The last roster received with an ETag is kept and revalidated with {@code If-None-Match}; when the mock API answers
+ * {@code 304 Not Modified} the kept roster, the very same list instance, is returned without transferring or decoding
+ * a body. Revalidations are counted as {@code employee.client.revalidations} by {@code result}.
+ */
 @Component
 public class EmployeeClient {
 
+    static final String GET_EMPLOYEES = "get_employees";
+    static final String GET_EMPLOYEE_BY_ID = "get_employee_by_id";
+    static final String CREATE = "create";
+    static final String DELETE = "delete";
+    static final String GET_CHANGES = "get_changes";
+    static final String GET_EMPLOYEE_PAGE = "get_employee_page";
+    static final String CREATE_BATCH = "create_batch";
+    static final String DELETE_BATCH = "delete_batch";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String ROSTER_EPOCH_HEADER = "X-Roster-Epoch";
+    static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
+    /**
+     * Items per call to the mock API's batch endpoints, which accept up to 10000.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private static final Logger logger = LoggerFactory.getLogger(EmployeeClient.class);
-    private final RestTemplate restTemplate = new RestTemplate();
-    private static final String EMPLOYEE_API_URL = "http://localhost:8112/api/v1/employee";
+    private final RestTemplate restTemplate;
+    private final String employeeApiUrl;
+    private final CallMetrics metrics;
+    private final EmployeeReplica replica;
+    private final Counter rosterModified;
+    private final Counter rosterNotModified;
+    private volatile ValidatedRoster validatedRoster;
+
+    /**
+     * @param employeeRestTemplate pooled keep-alive transport from {@link EmployeeClientConfiguration}
+     */
+    public EmployeeClient(RestTemplate employeeRestTemplate,
+                          EmployeeClientProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.restTemplate = employeeRestTemplate;
+        this.employeeApiUrl = properties.baseUrl();
+        this.metrics = new CallMetrics("employee.client.requests", "Calls to the mock employee API", meterRegistry);
+        this.replica = properties.deltaSync() ? new EmployeeReplica(new EmployeeReplica.Upstream() {
+            @Override
+            public EmployeeReplica.VersionedRoster roster() {
+                return metrics.record(GET_EMPLOYEES, EmployeeClient.this::fetchVersionedRoster);
+            }
+
+            @Override
+            public EmployeeChanges changesSince(long version) {
+                return getChangesSince(version);
+            }
+        }, meterRegistry) : null;
+        this.rosterModified = revalidations("modified", meterRegistry);
+        this.rosterNotModified = revalidations("not_modified", meterRegistry);
+    }
 
     public List<Employee> getEmployees() {
-        logger.info("Calling mock API to get employee list");
+        if (replica != null) {
+            return replica.sync();
+        }
+        return metrics.record(GET_EMPLOYEES, () -> fetchVersionedRoster().employees());
+    }
+
+    private EmployeeReplica.VersionedRoster fetchVersionedRoster() {
+        logger.debug("Calling mock API to get employee list");
+        ValidatedRoster cached = validatedRoster;
+        HttpHeaders requestHeaders = new HttpHeaders();
+        if (cached != null) {
+            requestHeaders.setIfNoneMatch(cached.etag());
+        }
         ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                EMPLOYEE_API_URL,
+                employeeApiUrl,
                 HttpMethod.GET,
-                null,
+                new HttpEntity<>(requestHeaders),
                 new ParameterizedTypeReference<>() {}
         );
 
+        if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            rosterNotModified.increment();
+            logger.debug("Employee list not modified since {}", cached.etag());
+            return cached.roster();
+        }
         if(response.getBody().error() != null) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, response.getBody().error());
         }
 
         List<Employee> data = response.getBody() != null ? response.getBody().data() : List.of();
-        logger.info("Received {} employees", data.size());
+        logger.debug("Received {} employees", data.size());
 
-        return data;
+        HttpHeaders headers = response.getHeaders();
+        String etag = headers.getETag();
+        if (etag != null) {
+            data = List.copyOf(data);
+        }
+        EmployeeReplica.VersionedRoster roster = new EmployeeReplica.VersionedRoster(
+                longHeader(headers, ROSTER_EPOCH_HEADER), longHeader(headers, ROSTER_VERSION_HEADER), data);
+        if (cached != null) {
+            rosterModified.increment();
+        }
+        validatedRoster = etag != null ? new ValidatedRoster(etag, roster) : null;
+        return roster;
+    }
+
+    private static Long longHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Changes to the mock roster after {@code version}, as reported by the roster's {@code X-Roster-Version} header
+     * or a previous call.
+     */
+    public EmployeeChanges getChangesSince(long version) {
+        return metrics.record(GET_CHANGES, () -> fetchChanges(version));
+    }
+
+    private EmployeeChanges fetchChanges(long version) {
+        ResponseEntity<ApiResponse<EmployeeChanges>> response = restTemplate.exchange(
+                employeeApiUrl + "/changes?since={since}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {},
+                version
+        );
+        if(response.getBody().error() != null) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, response.getBody().error());
+        }
+        return response.getBody().data();
+    }
+
+    /**
+     * Streams the roster from the mock API, passing each employee to {@code consumer} while the response is still
+     * being read. Unlike {@link #getEmployees()} nothing is materialised, so single-pass aggregates run in constant
+     * memory.
+     *
+     * @return number of employees streamed
+     */
+    public long forEachEmployee(Consumer<? super Employee> consumer) {
+        if (replica != null) {
+            List<Employee> employees = replica.sync();
+            employees.forEach(consumer);
+            return employees.size();
+        }
+        return metrics.record(GET_EMPLOYEES, () -> streamEmployees(consumer));
+    }
+
+    private long streamEmployees(Consumer<? super Employee> consumer) {
+        logger.debug("Streaming employee list from mock API");
+        Long count = restTemplate.execute(
+                employeeApiUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> EmployeeStreamDecoder.decode(response.getBody(), consumer)
+        );
+        logger.debug("Streamed {} employees", count);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * One page of the roster in id order, fetched with keyset pagination.
+     *
+     * @param cursor {@link EmployeePage#next_cursor()} of the previous page, or {@code null} for the first page
+     * @param limit page size; the mock API accepts 1 to 1000
+     */
+    public EmployeePage getEmployeePage(String cursor, int limit) {
+        return metrics.record(GET_EMPLOYEE_PAGE, () -> fetchEmployeePage(cursor, limit));
+    }
+
+    private EmployeePage fetchEmployeePage(String cursor, int limit) {
+        ResponseEntity<ApiResponse<List<Employee>>> response = cursor == null
+                ? restTemplate.exchange(
+                        employeeApiUrl + "?limit={limit}",
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<>() {},
+                        limit)
+                : restTemplate.exchange(
+                        employeeApiUrl + "?limit={limit}&cursor={cursor}",
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<>() {},
+                        limit,
+                        cursor);
+        if(response.getBody().error() != null) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, response.getBody().error());
+        }
+        List<Employee> data = response.getBody().data() != null ? response.getBody().data() : List.of();
+        return new EmployeePage(data, response.getHeaders().getFirst(NEXT_CURSOR_HEADER));
+    }
+
+    /**
+     * Walks the roster page by page, passing each page to {@code consumer} before the next one is requested, so at
+     * most one page is held at a time.
+     *
+     * @return number of employees visited
+     */
+    public long forEachPage(int limit, Consumer<? super List<Employee>> consumer) {
+        long count = 0;
+        String cursor = null;
+        do {
+            EmployeePage page = getEmployeePage(cursor, limit);
+            consumer.accept(page.employees());
+            count += page.employees().size();
+            cursor = page.next_cursor();
+        } while (cursor != null);
+        return count;
     }
 
     public Employee getEmployeeById(String id) {
+        return metrics.record(GET_EMPLOYEE_BY_ID, () -> fetchEmployeeById(id));
+    }
+
+    private Employee fetchEmployeeById(String id) {
         try {
             ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    EMPLOYEE_API_URL + "/" + id,
+                    employeeApiUrl + "/" + id,
                     HttpMethod.GET,
                     null,
                     new ParameterizedTypeReference<>() {}
@@ -61,12 +268,16 @@ public class EmployeeClient {
     }
 
     public Employee createEmployee(@Valid CreateEmployeeInput input) {
+        return metrics.record(CREATE, () -> postEmployee(input));
+    }
+
+    private Employee postEmployee(CreateEmployeeInput input) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<CreateEmployeeInput> entity = new HttpEntity<>(input, headers);
 
         ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                EMPLOYEE_API_URL,
+                employeeApiUrl,
                 HttpMethod.POST,
                 entity,
                 new ParameterizedTypeReference<>() {}
@@ -78,12 +289,16 @@ public class EmployeeClient {
     }
 
     public Boolean deleteEmployeeByName(DeleteEmployeeInput deleteEmployeeInput) {
+        return metrics.record(DELETE, () -> sendDelete(deleteEmployeeInput));
+    }
+
+    private Boolean sendDelete(DeleteEmployeeInput deleteEmployeeInput) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<DeleteEmployeeInput> entity = new HttpEntity<>(deleteEmployeeInput, headers);
         ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                EMPLOYEE_API_URL,
+                employeeApiUrl,
                 HttpMethod.DELETE,
                 entity,
                 new ParameterizedTypeReference<>() {}
@@ -93,4 +308,60 @@ public class EmployeeClient {
         }
         return response.getBody() != null ? response.getBody().data() : null;
     }
+
+    /**
+     * Creates up to {@link #MAX_BATCH_SIZE} employees with one call to the mock API.
+     *
+     * @return per input, the created employee or why the mock API rejected it, in input order
+     */
+    public List<BatchItemResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs) {
+        return metrics.record(CREATE_BATCH, () -> sendBatch(HttpMethod.POST, inputs,
+                new ParameterizedTypeReference<ApiResponse<List<BatchItemResult<Employee>>>>() {}));
+    }
+
+    /**
+     * Deletes, per input, the first employee with that name, for up to {@link #MAX_BATCH_SIZE} inputs with one call to
+     * the mock API.
+     *
+     * @return per input, whether an employee was deleted or why the mock API rejected it, in input order
+     */
+    public List<BatchItemResult<Boolean>> deleteEmployeesByName(List<DeleteEmployeeInput> inputs) {
+        return metrics.record(DELETE_BATCH, () -> sendBatch(HttpMethod.DELETE, inputs,
+                new ParameterizedTypeReference<ApiResponse<List<BatchItemResult<Boolean>>>>() {}));
+    }
+
+    private <I, R> List<BatchItemResult<R>> sendBatch(
+            HttpMethod method, List<I> inputs, ParameterizedTypeReference<ApiResponse<List<BatchItemResult<R>>>> type) {
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " items per batch, got " + inputs.size());
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<ApiResponse<List<BatchItemResult<R>>>> response = restTemplate.exchange(
+                employeeApiUrl + "/batch",
+                method,
+                new HttpEntity<>(inputs, headers),
+                type
+        );
+        if(response.getBody().error() != null) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, response.getBody().error());
+        }
+        List<BatchItemResult<R>> results = response.getBody().data();
+        if (results == null || results.size() != inputs.size()) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format(
+                    "Expected %d batch results from mock API, got %s",
+                    inputs.size(), results != null ? results.size() : null));
+        }
+        return results;
+    }
+
+    private static Counter revalidations(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("employee.client.revalidations")
+                .description("Conditional roster requests to the mock employee API by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record ValidatedRoster(String etag, EmployeeReplica.VersionedRoster roster) {
+    }
 }
@@ -0,0 +1,85 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.resilience.ResilientRequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP transport of the blocking {@link EmployeeClient}: an Apache HttpClient 5 with a keep-alive connection pool,
+ * the timeouts from {@link EmployeeClientProperties} and transparent gzip decoding. Every call passes through the
+ * {@link ResilientRequestInterceptor} for client-side rate limiting, retries and circuit breaking, wrapped by a
+ * {@link PayloadSizeInterceptor} that records body sizes. Pool usage is published as
+ * {@code httpcomponents.httpclient.pool.*} metrics tagged {@code httpclient=employee-client}.
+ */
+@Configuration
+public class EmployeeClientConfiguration {
+
+    static final String POOL_NAME = "employee-client";
+
+    @Bean
+    public PoolingHttpClientConnectionManager employeeClientConnectionManager(EmployeeClientProperties properties) {
+        EmployeeClientProperties.Pool pool = properties.pool();
+        EmployeeClientProperties.Timeouts timeouts = properties.timeouts();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.maxConnections())
+                .setMaxConnPerRoute(pool.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(timeouts.connect()))
+                        .setSocketTimeout(Timeout.of(timeouts.read()))
+                        .setTimeToLive(TimeValue.of(pool.timeToLive()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient employeeHttpClient(PoolingHttpClientConnectionManager employeeClientConnectionManager,
+                                                  EmployeeClientProperties properties) {
+        EmployeeClientProperties.Timeouts timeouts = properties.timeouts();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(employeeClientConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(timeouts.connectionRequest()))
+                        .setResponseTimeout(Timeout.of(timeouts.response()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.pool().idleEviction()));
+        if (!properties.compression()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RestTemplate employeeRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                             CloseableHttpClient employeeHttpClient,
+                                             ResilientRequestInterceptor resilientRequestInterceptor,
+                                             EmployeeClientProperties properties,
+                                             MeterRegistry meterRegistry) {
+        // Outermost, so only the response the caller finally reads is measured, not rejected retry attempts.
+        PayloadSizeInterceptor payloadSizes = new PayloadSizeInterceptor(properties.baseUrl(), meterRegistry);
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(employeeHttpClient))
+                .additionalInterceptors(payloadSizes, resilientRequestInterceptor)
+                .build();
+    }
+
+    @Bean
+    public MeterBinder employeeClientPoolMetrics(PoolingHttpClientConnectionManager employeeClientConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(employeeClientConnectionManager, POOL_NAME);
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for talking to the mock employee API.
+ *
+ * @param baseUrl employee collection endpoint of the mock API
+ * @param mode {@link Mode#BLOCKING} serves requests through {@link EmployeeClient} on servlet threads,
+ *             {@link Mode#REACTIVE} through {@link ReactiveEmployeeClient} without holding a thread per call
+ * @param pool keep-alive connection pool shared by all calls of the active client
+ * @param timeouts connect, read and response timeouts applied to every call
+ * @param compression whether to advertise {@code Accept-Encoding: gzip, deflate} and decode compressed responses
+ * @param coalesceRequests whether concurrent identical reads (full roster, same employee id) share one upstream call
+ * @param deltaSync whether {@link EmployeeClient} keeps a local replica of the roster and refreshes it from the mock
+ *                  API's change feed instead of downloading the full roster on every read
+ */
+@ConfigurationProperties(prefix = "employee.client")
+public record EmployeeClientProperties(
+        @DefaultValue("http://localhost:8112/api/v1/employee") String baseUrl,
+        @DefaultValue("blocking") Mode mode,
+        @DefaultValue Pool pool,
+        @DefaultValue Timeouts timeouts,
+        @DefaultValue("true") boolean compression,
+        @DefaultValue("true") boolean coalesceRequests,
+        @DefaultValue("false") boolean deltaSync
+) {
+
+    public enum Mode {
+        BLOCKING,
+        REACTIVE
+    }
+
+    /**
+     * @param maxConnections upper bound of pooled connections across all routes
+     * @param maxConnectionsPerRoute upper bound of pooled connections to one host; the mock API is a single route
+     * @param idleEviction connections idle for longer than this are closed in the background
+     * @param timeToLive connections are not reused after this age, so DNS or load balancer changes are picked up
+     */
+    public record Pool(
+            @DefaultValue("500") int maxConnections,
+            @DefaultValue("500") int maxConnectionsPerRoute,
+            @DefaultValue("30s") Duration idleEviction,
+            @DefaultValue("5m") Duration timeToLive
+    ) {
+    }
+
+    /**
+     * @param connect time allowed to establish the TCP connection
+     * @param connectionRequest time allowed to wait for a free connection when the pool is exhausted
+     * @param read maximum inactivity between two packets once connected
+     * @param response time allowed for the mock API to start answering after the request is sent
+     */
+    public record Timeouts(
+            @DefaultValue("2s") Duration connect,
+            @DefaultValue("5s") Duration connectionRequest,
+            @DefaultValue("10s") Duration read,
+            @DefaultValue("10s") Duration response
+    ) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.concurrent.SingleFlight;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local copy of the mock roster kept current from the server's change feed. The first {@link #sync()} downloads the
+ * full roster together with its version; later ones ask only for the changes since that version and apply them in
+ * order. The full roster is downloaded again only when the server can no longer serve the gap (its change ring has
+ * rolled over), when it restarted (the epoch changed) or when it does not report a version at all.
+ * <p>
+ * Concurrent syncs are coalesced into one. Syncs are counted as {@code employee.client.replica.syncs} by
+ * {@code type} ({@code full} or {@code delta}).
+ */
+class EmployeeReplica {
+
+    /**
+     * Full roster with the version it reflects; {@code epoch} and {@code version} are null when the server did not
+     * send them.
+     */
+    record VersionedRoster(Long epoch, Long version, List<Employee> employees) {
+    }
+
+    interface Upstream {
+
+        VersionedRoster roster();
+
+        EmployeeChanges changesSince(long version);
+    }
+
+    /**
+     * What the last sync published; {@code version} is -1 until the server has reported one.
+     */
+    private record State(long epoch, long version, List<Employee> employees) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReplica.class);
+    private static final String SYNC = "sync";
+
+    private final Upstream upstream;
+    private final SingleFlight<String, List<Employee>> syncs;
+    private final Counter fullSyncs;
+    private final Counter deltaSyncs;
+    // Only touched by the sync in flight; syncs never overlap.
+    private final Map<String, Employee> employeesById = new LinkedHashMap<>();
+    private volatile State state = new State(0, -1, List.of());
+
+    EmployeeReplica(Upstream upstream, MeterRegistry meterRegistry) {
+        this.upstream = upstream;
+        this.syncs = new SingleFlight<>("replica_sync", true, meterRegistry);
+        this.fullSyncs = syncs("full", meterRegistry);
+        this.deltaSyncs = syncs("delta", meterRegistry);
+    }
+
+    /**
+     * Callers arriving while a sync is in flight share its result instead of queueing for one of their own, so no
+     * thread holds a lock across the upstream calls.
+     *
+     * @return the roster as of now; the list is immutable and shared until the next change
+     */
+    List<Employee> sync() {
+        return syncs.execute(SYNC, this::syncWithUpstream);
+    }
+
+    private List<Employee> syncWithUpstream() {
+        State current = state;
+        if (current.version() < 0) {
+            return resync();
+        }
+        EmployeeChanges changes = upstream.changesSince(current.version());
+        if (changes.resync() || changes.epoch() != current.epoch()) {
+            logger.debug("Replica at version {} cannot catch up with epoch {} version {}, reloading",
+                    current.version(), changes.epoch(), changes.version());
+            return resync();
+        }
+        deltaSyncs.increment();
+        List<Employee> employees = current.employees();
+        if (!changes.changes().isEmpty()) {
+            for (EmployeeChange change : changes.changes()) {
+                apply(change);
+            }
+            employees = List.copyOf(employeesById.values());
+        }
+        state = new State(current.epoch(), changes.version(), employees);
+        return employees;
+    }
+
+    private List<Employee> resync() {
+        VersionedRoster roster = upstream.roster();
+        fullSyncs.increment();
+        employeesById.clear();
+        for (Employee employee : roster.employees()) {
+            employeesById.put(employee.id(), employee);
+        }
+        List<Employee> employees = List.copyOf(employeesById.values());
+        state = roster.epoch() == null || roster.version() == null
+                ? new State(0, -1, employees)
+                : new State(roster.epoch(), roster.version(), employees);
+        return employees;
+    }
+
+    // Both kinds of change are idempotent, so a change the roster already reflects can be applied again.
+    private void apply(EmployeeChange change) {
+        Employee employee = change.employee();
+        switch (change.type()) {
+            case CREATED -> employeesById.put(employee.id(), employee);
+            case DELETED -> employeesById.remove(employee.id());
+        }
+    }
+
+    private static Counter syncs(String type, MeterRegistry meterRegistry) {
+        return Counter.builder("employee.client.replica.syncs")
+                .description("Syncs of the local roster replica with the mock employee API")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
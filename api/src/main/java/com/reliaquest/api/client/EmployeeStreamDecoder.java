@@ -0,0 +1,62 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Pull-parses an {@code ApiResponse<List<Employee>>} body and hands each element of {@code data} to a consumer as
+ * soon as it has been read, so only one {@link Employee} is live at a time regardless of roster size. Other top-level
+ * fields are skipped; a non-null {@code error} is raised after the body has been consumed.
+ */
+final class EmployeeStreamDecoder {
+
+    private static final ObjectReader EMPLOYEE_READER = new ObjectMapper()
+            .readerFor(Employee.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private EmployeeStreamDecoder() {}
+
+    /**
+     * @return number of employees passed to {@code consumer}
+     */
+    static long decode(InputStream body, Consumer<? super Employee> consumer) throws IOException {
+        try (JsonParser parser = EMPLOYEE_READER.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an employee API response object");
+            }
+
+            long count = 0;
+            String error = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(EMPLOYEE_READER.readValue(parser, Employee.class));
+                        count++;
+                    }
+                } else if ("error".equals(field) && value == JsonToken.VALUE_STRING) {
+                    error = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (error != null) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, error);
+            }
+            return count;
+        }
+    }
+}
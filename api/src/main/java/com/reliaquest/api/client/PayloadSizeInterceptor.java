@@ -0,0 +1,163 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the size of request and response bodies exchanged with the mock employee API as
+ * {@code employee.client.payload.size} (bytes) by {@code operation} and {@code direction}. Response bodies are
+ * counted as they are read, after gzip decoding, and recorded when the response is closed, so streamed rosters are
+ * measured without buffering them.
+ * <p>
+ * The operation is derived from the request: {@code GET} of the roster URL is {@code get_employees}, or
+ * {@code get_employee_page} with a {@code limit} parameter, of the change feed {@code get_changes} and any other
+ * {@code GET} is {@code get_employee_by_id}; {@code POST} is {@code create} and {@code DELETE} is {@code delete},
+ * or {@code create_batch} and {@code delete_batch} on the batch URL, matching the operations timed by
+ * {@link EmployeeClient}.
+ */
+class PayloadSizeInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String rosterPath;
+    private final String changesPath;
+    private final String batchPath;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    PayloadSizeInterceptor(String baseUrl, MeterRegistry meterRegistry) {
+        this.rosterPath = URI.create(baseUrl).getPath();
+        this.changesPath = rosterPath + "/changes";
+        this.batchPath = rosterPath + "/batch";
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String operation = operation(request);
+        if (body.length > 0) {
+            summary(operation, "request").record(body.length);
+        }
+        return new CountingResponse(execution.execute(request, body), summary(operation, "response"));
+    }
+
+    private String operation(HttpRequest request) {
+        HttpMethod method = request.getMethod();
+        String path = request.getURI().getPath();
+        if (HttpMethod.POST.equals(method)) {
+            return batchPath.equals(path) ? EmployeeClient.CREATE_BATCH : EmployeeClient.CREATE;
+        }
+        if (HttpMethod.DELETE.equals(method)) {
+            return batchPath.equals(path) ? EmployeeClient.DELETE_BATCH : EmployeeClient.DELETE;
+        }
+        if (rosterPath.equals(path)) {
+            String query = request.getURI().getRawQuery();
+            return query != null && query.contains("limit=")
+                    ? EmployeeClient.GET_EMPLOYEE_PAGE
+                    : EmployeeClient.GET_EMPLOYEES;
+        }
+        return changesPath.equals(path) ? EmployeeClient.GET_CHANGES : EmployeeClient.GET_EMPLOYEE_BY_ID;
+    }
+
+    private DistributionSummary summary(String operation, String direction) {
+        return summaries.computeIfAbsent(operation + ' ' + direction, key -> DistributionSummary
+                .builder("employee.client.payload.size")
+                .description("Bodies exchanged with the mock employee API")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .tag("direction", direction)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static final class CountingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final DistributionSummary summary;
+        private CountingInputStream body;
+
+        CountingResponse(ClientHttpResponse delegate, DistributionSummary summary) {
+            this.delegate = delegate;
+            this.summary = summary;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (body != null) {
+                summary.record(body.count);
+                body = null;
+            }
+            delegate.close();
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
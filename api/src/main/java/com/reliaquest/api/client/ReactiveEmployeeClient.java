@@ -0,0 +1,114 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeClient} on Spring WebClient / Reactor Netty.
+ * Calls hold no thread while waiting on the mock API.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+public class ReactiveEmployeeClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeClient.class);
+    private final WebClient webClient;
+    private final String employeeApiUrl;
+
+    public ReactiveEmployeeClient(WebClient.Builder webClientBuilder, EmployeeClientProperties properties) {
+        EmployeeClientProperties.Pool pool = properties.pool();
+        EmployeeClientProperties.Timeouts timeouts = properties.timeouts();
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("employee-client")
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(timeouts.connectionRequest())
+                .maxIdleTime(pool.idleEviction())
+                .maxLifeTime(pool.timeToLive())
+                .evictInBackground(pool.idleEviction())
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeouts.connect().toMillis())
+                .responseTimeout(timeouts.response())
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(timeouts.read().toMillis(), TimeUnit.MILLISECONDS)))
+                .compress(properties.compression());
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.employeeApiUrl = properties.baseUrl();
+    }
+
+    public Flux<Employee> getEmployees() {
+        return webClient.get()
+                .uri(employeeApiUrl)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
+                .flatMapMany(response -> {
+                    if (response.error() != null) {
+                        return Flux.<Employee>error(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, response.error()));
+                    }
+                    return Flux.fromIterable(response.data() != null ? response.data() : List.of());
+                });
+    }
+
+    public Mono<Employee> getEmployeeById(String id) {
+        return webClient.get()
+                .uri(employeeApiUrl + "/{id}", id)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {})
+                .flatMap(ReactiveEmployeeClient::unwrap)
+                .doOnError(WebClientResponseException.NotFound.class,
+                        ex -> logger.warn("Employee not found with ID: {}", id));
+    }
+
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+        return webClient.post()
+                .uri(employeeApiUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(input)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {})
+                .flatMap(ReactiveEmployeeClient::unwrap);
+    }
+
+    public Mono<Boolean> deleteEmployeeByName(DeleteEmployeeInput deleteEmployeeInput) {
+        return webClient.method(HttpMethod.DELETE)
+                .uri(employeeApiUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(deleteEmployeeInput)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Boolean>>() {})
+                .flatMap(ReactiveEmployeeClient::unwrap);
+    }
+
+    private static <T> Mono<T> unwrap(ApiResponse<T> response) {
+        if (response.error() != null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, response.error()));
+        }
+        return Mono.justOrEmpty(response.data());
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one. The first caller (the leader) runs the loader on its own
+ * thread; callers arriving while it is in flight (followers) wait for and share its result or exception. Nothing is
+ * cached: once the leader finishes, the next call for that key starts a new load. A disabled instance runs every
+ * call's loader and counts each caller as a leader.
+ * <p>
+ * Metrics: {@code employee.client.singleflight.calls} tagged with {@code operation} and {@code role}
+ * ({@code leader}/{@code follower}); the coalescing ratio is {@code follower / (leader + follower)}. The gauge
+ * {@code employee.client.singleflight.inflight} counts keys currently being loaded.
+ *
+ * @param <K> identifies the upstream resource, e.g. an employee id
+ * @param <V> loaded value
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(String operation, boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.leaders = callCounter(meterRegistry, operation, "leader");
+        this.followers = callCounter(meterRegistry, operation, "follower");
+        Gauge.builder("employee.client.singleflight.inflight", inFlight, Map::size)
+                .description("Upstream loads currently shared by concurrent callers")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of {@code loader}, or of the load for {@code key} already in flight. Exceptions of the
+     * shared load are rethrown to every caller unchanged.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (!enabled) {
+            leaders.increment();
+            return loader.get();
+        }
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String operation, String role) {
+        return Counter.builder("employee.client.singleflight.calls")
+                .description("Upstream calls by whether they ran the load or shared one already in flight")
+                .tag("operation", operation)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
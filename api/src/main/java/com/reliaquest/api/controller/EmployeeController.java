@@ -1,40 +1,68 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import com.reliaquest.api.roster.EmployeeIds;
 import com.reliaquest.api.service.EmployeeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 
 @RestController
 @RequestMapping("/employees")
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_BATCH_SIZE = 100_000;
+
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
     private final EmployeeService employeeService;
+    private final ObjectWriter employeeLineWriter;
+    private final RosterETags rosterETags = new RosterETags();
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.employeeLineWriter = objectMapper.writerFor(Employee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        logger.info("Fetching all employees");
+        logger.debug("Fetching all employees");
         try{
             List<Employee> employees = employeeService.fetchAllEmployees();
-            logger.info("Successfully fetched {} employees", employees.size());
-            return ResponseEntity.ok(employees);
+            logger.debug("Successfully fetched {} employees", employees.size());
+            // Spring answers 304 without serializing the roster when If-None-Match carries this tag.
+            return ResponseEntity.ok().eTag(rosterETags.of(employees)).body(employees);
+        } catch (UpstreamUnavailableException ex) {
+            logger.warn("Mock employee API unavailable and no cached roster to serve: {}", ex.getReason());
+            throw ex;
         } catch (Exception ex){
             logger.error("Failed to fetch employees: {}", ex.getMessage(), ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -42,19 +70,77 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         }
     }
 
+    /**
+     * Streaming variant of {@link #getAllEmployees()}, selected with {@code Accept: application/x-ndjson}. Employees
+     * are written one JSON object per line as they arrive, so neither the roster nor its serialized form is buffered
+     * and the first bytes leave before the last employee has been read from the mock API. Failures before anything has
+     * been sent are reported like {@link #getAllEmployees()}; later ones can only abort the response.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        logger.debug("Streaming all employees");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = employeeLineWriter.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                employeeService.streamAllEmployees(employee -> writeLine(generator, employee));
+            } catch (UncheckedIOException ex) {
+                logger.warn("Employee stream aborted: {}", ex.getCause().getMessage());
+                throw ex.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Same as {@link #streamAllEmployees()} for clients that cannot set the {@code Accept} header.
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesOnRequest() {
+        return streamAllEmployees();
+    }
+
+    private void writeLine(JsonGenerator generator, Employee employee) {
+        try {
+            employeeLineWriter.writeValue(generator, employee);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Paged alternative to {@link #getAllEmployees()} for large rosters: up to {@code limit} employees in id order,
+     * continuing after {@code cursor}, the {@code next_cursor} of the previous page. The next page is prefetched from
+     * the mock API while this one is serialized.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            logger.warn("Invalid page size: {}", limit);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String after = cursor != null ? canonicalId(cursor) : null;
+        EmployeePage page = employeeService.fetchEmployeePage(after, limit);
+        logger.debug("Fetched page of {} employees", page.employees().size());
+        return ResponseEntity.ok(page);
+    }
+
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable("searchString") String searchString){
-        logger.info("Searching employees with name containing: {}", searchString);
+        logger.debug("Searching employees with name containing: {}", searchString);
         List<Employee> filteredEmployees = employeeService.searchEmployeesByNameSearch(searchString);
-        logger.info("Found {} employees matching search string: {}", filteredEmployees.size(), searchString);
+        logger.debug("Found {} employees matching search string: {}", filteredEmployees.size(), searchString);
         return ResponseEntity.ok(filteredEmployees);
     }
 
     public ResponseEntity getEmployeeById(@PathVariable("id") String id) {
-        logger.info("Fetching employee with id: {}", id);
+        logger.debug("Fetching employee with id: {}", id);
         try {
-            validateId(id);
-            Employee employee = employeeService.fetchEmployeeById(id);
-            logger.info("Successfully fetched employee with id: {}", id);
+            Employee employee = employeeService.fetchEmployeeById(canonicalId(id));
+            logger.debug("Successfully fetched employee with id: {}", id);
             return ResponseEntity.ok(employee);
         } catch (ResponseStatusException responseStatusException){
             logger.warn("Invalid request for employee id: {}", id);
@@ -66,25 +152,28 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        logger.info("Fetching highest salary among employees");
+        logger.debug("Fetching highest salary among employees");
         int highestSalary = employeeService.getHighestSalaryOfEmployees();
-        logger.info("Highest salary found: {}", highestSalary);
+        logger.debug("Highest salary found: {}", highestSalary);
         return ResponseEntity.ok(highestSalary);
     }
 
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Fetching top 10 highest earning employee names");
+        logger.debug("Fetching top 10 highest earning employee names");
         List<String> topEarners = employeeService.getTop10HighestEarningEmployeeNames();
-        logger.info("Found {} top earning employees", topEarners.size());
+        logger.debug("Found {} top earning employees", topEarners.size());
         return ResponseEntity.ok(topEarners);
     }
 
     public ResponseEntity<Employee> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
-        logger.info("Creating new employee with name: {}", employeeInput.name());
+        logger.debug("Creating new employee with name: {}", employeeInput.name());
         try {
             Employee createdEmployee = employeeService.createEmployee(employeeInput);
-            logger.info("Successfully created employee with id: {}", createdEmployee.id());
+            logger.debug("Successfully created employee with id: {}", createdEmployee.id());
             return ResponseEntity.ok(createdEmployee);
+        } catch (UpstreamUnavailableException ex) {
+            logger.warn("Mock employee API unavailable, cannot create employee with name: {}", employeeInput.name());
+            throw ex;
         } catch (Exception ex) {
             logger.error("Failed to create employee with name: {}", employeeInput.name(), ex);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to create employee");
@@ -92,26 +181,73 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     public ResponseEntity<String> deleteEmployeeById(@PathVariable("id") String id) {
-        logger.info("Attempting to delete employee with id: {}", id);
-        validateId(id);
+        logger.debug("Attempting to delete employee with id: {}", id);
+        String employeeId = canonicalId(id);
 
         try {
-            String deletedEmployeeName = employeeService.deleteEmployeeById(id);
-            logger.info("Successfully deleted employee: {}", deletedEmployeeName);
+            String deletedEmployeeName = employeeService.deleteEmployeeById(employeeId);
+            logger.debug("Successfully deleted employee: {}", deletedEmployeeName);
             return ResponseEntity.ok(deletedEmployeeName);
+        } catch (UpstreamUnavailableException ex) {
+            logger.warn("Mock employee API unavailable, cannot delete employee with id: {}", id);
+            throw ex;
+        } catch (ResponseStatusException ex) {
+            if (ex.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT)) {
+                logger.warn("Refused to delete employee with id: {}: {}", id, ex.getReason());
+                throw ex;
+            }
+            logger.error("Failed to delete employee with id: {}", id, ex);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to delete employee with id: " + id);
         } catch (Exception ex) {
             logger.error("Failed to delete employee with id: {}", id, ex);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to delete employee with id: " + id);
         }
     }
 
-    private void validateId(String uuid) {
-        try {
-            UUID.fromString(uuid);
-        } catch (IllegalArgumentException e) {
+    /**
+     * Bulk variant of {@link #createEmployee(CreateEmployeeInput)}, e.g. for onboarding imports. Invalid items are
+     * rejected individually and the rest are created with a few batch calls to the mock API; the response holds one
+     * result per item, in request order.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<Employee>>> createEmployees(
+            @RequestBody List<CreateEmployeeInput> employeeInputs) {
+        validateBatchSize(employeeInputs.size());
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(employeeInputs);
+        logger.debug("Processed batch of {} employees to create", results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Bulk variant of {@link #deleteEmployeeById(String)}: the body is a list of ids, and the response holds the name
+     * of each deleted employee or why it was not deleted, in request order.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<String>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        validateBatchSize(ids.size());
+        List<BatchItemResult<String>> results = employeeService.deleteEmployeesById(ids);
+        logger.debug("Processed batch of {} employees to delete", results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    private void validateBatchSize(int size) {
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            logger.warn("Invalid batch size: {}", size);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "batch must hold between 1 and " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    /**
+     * @return {@code uuid} in the lower-case form the mock API issues, accepting either case
+     */
+    private String canonicalId(String uuid) {
+        String id = EmployeeIds.canonical(uuid);
+        if (id == null) {
             logger.warn("Invalid UUID provided: {}", uuid);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid input provided");
         }
+        return id;
     }
 
 }
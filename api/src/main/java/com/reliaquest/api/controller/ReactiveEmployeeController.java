@@ -0,0 +1,111 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.EmployeeIds;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Serves the {@link IEmployeeController} routes from {@link ReactiveEmployeeService} when
+ * {@code employee.client.mode=reactive}. Handlers return {@link Mono} so the servlet thread is released while the
+ * mock API call is in flight.
+ */
+@RestController
+@RequestMapping("/employees")
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+public class ReactiveEmployeeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        logger.debug("Fetching all employees");
+        return employeeService.fetchAllEmployees()
+                .map(ResponseEntity::ok)
+                .onErrorResume(ex -> {
+                    logger.error("Failed to fetch employees: {}", ex.getMessage(), ex);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Collections.emptyList()));
+                });
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable("searchString") String searchString) {
+        logger.debug("Searching employees with name containing: {}", searchString);
+        return employeeService.searchEmployeesByNameSearch(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable("id") String id) {
+        logger.debug("Fetching employee with id: {}", id);
+        return employeeService.fetchEmployeeById(canonicalId(id))
+                .map(ResponseEntity::ok)
+                .onErrorResume(ex -> !(ex instanceof ResponseStatusException), ex -> {
+                    logger.error("Failed to fetch employee with id: {}", id, ex);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        logger.debug("Fetching highest salary among employees");
+        return employeeService.getHighestSalaryOfEmployees().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        logger.debug("Fetching top 10 highest earning employee names");
+        return employeeService.getTopHighestEarningEmployeeNames(10).map(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
+        logger.debug("Creating new employee with name: {}", employeeInput.name());
+        return employeeService.createEmployee(employeeInput)
+                .map(ResponseEntity::ok)
+                .onErrorMap(ex -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to create employee"));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable("id") String id) {
+        logger.debug("Attempting to delete employee with id: {}", id);
+        return employeeService.deleteEmployeeById(canonicalId(id))
+                .map(ResponseEntity::ok)
+                .onErrorMap(ex -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Failed to delete employee with id: " + id));
+    }
+
+    /**
+     * @return {@code uuid} in the lower-case form the mock API issues, accepting either case
+     */
+    private String canonicalId(String uuid) {
+        String id = EmployeeIds.canonical(uuid);
+        if (id == null) {
+            logger.warn("Invalid UUID provided: {}", uuid);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid input provided");
+        }
+        return id;
+    }
+}
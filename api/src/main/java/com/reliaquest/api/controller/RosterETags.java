@@ -0,0 +1,65 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Strong ETags for roster responses, taken from a digest of the employees so an unchanged roster keeps its tag across
+ * cache refreshes and restarts. The roster cache hands out the same list instance until the roster changes, so the tag
+ * of the last list is remembered by identity and the digest is computed once per roster rather than once per request.
+ */
+final class RosterETags {
+
+    private volatile Tagged last;
+
+    String of(List<Employee> employees) {
+        Tagged tagged = last;
+        if (tagged == null || tagged.employees() != employees) {
+            tagged = new Tagged(employees, digest(employees));
+            last = tagged;
+        }
+        return tagged.etag();
+    }
+
+    private static String digest(List<Employee> employees) {
+        MessageDigest digest = sha256();
+        for (Employee employee : employees) {
+            update(digest, employee.id());
+            update(digest, employee.employee_name());
+            update(digest, Integer.toString(employee.employee_salary()));
+            update(digest, Integer.toString(employee.employee_age()));
+            update(digest, employee.employee_title());
+            update(digest, employee.employee_email());
+        }
+        return '"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"';
+    }
+
+    // Each field is prefixed with its length (-1 for null), so no two different rosters feed the same bytes.
+    private static void update(MessageDigest digest, String field) {
+        byte[] bytes = field != null ? field.getBytes(StandardCharsets.UTF_8) : null;
+        int length = bytes != null ? bytes.length : -1;
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+        if (bytes != null) {
+            digest.update(bytes);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is required on every Java platform", ex);
+        }
+    }
+
+    private record Tagged(List<Employee> employees, String etag) {
+    }
+}
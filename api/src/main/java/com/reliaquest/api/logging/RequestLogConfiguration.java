@@ -0,0 +1,18 @@
+package com.reliaquest.api.logging;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link SampledRequestLogFilter} for every request, backed by the application's
+ * {@link RequestLogSampler}.
+ */
+@Configuration
+public class RequestLogConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<SampledRequestLogFilter> sampledRequestLogFilter(RequestLogSampler sampler) {
+        return new FilterRegistrationBean<>(new SampledRequestLogFilter(sampler));
+    }
+}
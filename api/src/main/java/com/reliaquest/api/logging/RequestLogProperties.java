@@ -0,0 +1,21 @@
+package com.reliaquest.api.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning for {@link RequestLogSampler}.
+ *
+ * @param enabled when false no request lines are logged at all
+ * @param sampleEvery log one in this many successful requests per endpoint; 1 logs every request
+ * @param slowThreshold requests taking at least this long are always logged
+ */
+@ConfigurationProperties(prefix = "employee.request-log")
+public record RequestLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int sampleEvery,
+        @DefaultValue("1s") Duration slowThreshold
+) {
+}
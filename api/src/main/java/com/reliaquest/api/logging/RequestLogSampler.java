@@ -0,0 +1,62 @@
+package com.reliaquest.api.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which completed requests get a log line, replacing unconditional per-request INFO logging on the hot paths.
+ * Successful requests are sampled per endpoint, one in {@code sampleEvery}, counting each endpoint separately so a
+ * rarely used endpoint is not drowned out by a busy one; the first request of every endpoint is always logged. Server
+ * errors and requests slower than {@code slowThreshold} are always logged, client errors are sampled like successes.
+ * <p>
+ * Requests that are not logged only cost a counter increment.
+ */
+@Component
+public class RequestLogSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogSampler.class);
+
+    private final RequestLogProperties properties;
+    private final long slowThresholdNanos;
+    private final Map<String, AtomicLong> requestsByEndpoint = new ConcurrentHashMap<>();
+
+    public RequestLogSampler(RequestLogProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    /**
+     * @param endpoint route template the request matched, e.g. {@code GET /employees/{id}}
+     * @param uri the request URI as received
+     * @param status response status
+     * @param elapsedNanos time spent serving the request
+     * @return whether a line was logged
+     */
+    public boolean completed(String endpoint, String uri, int status, long elapsedNanos) {
+        if (!properties.enabled()) {
+            return false;
+        }
+        long seen = requestsByEndpoint.computeIfAbsent(endpoint, key -> new AtomicLong()).getAndIncrement();
+        if (status >= 500) {
+            logger.warn("{} {} -> {} in {} ms", endpoint, uri, status, elapsedNanos / 1_000_000);
+            return true;
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            logger.warn("{} {} -> {} in {} ms (slow)", endpoint, uri, status, elapsedNanos / 1_000_000);
+            return true;
+        }
+        int sampleEvery = Math.max(1, properties.sampleEvery());
+        if (seen % sampleEvery == 0 && logger.isInfoEnabled()) {
+            logger.info("{} {} -> {} in {} ms (1 in {} sampled)",
+                    endpoint, uri, status, elapsedNanos / 1_000_000, sampleEvery);
+            return true;
+        }
+        return false;
+    }
+}
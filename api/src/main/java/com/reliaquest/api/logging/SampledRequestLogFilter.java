@@ -0,0 +1,59 @@
+package com.reliaquest.api.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Times every request and hands it to the {@link RequestLogSampler} once the response is complete. Requests that go
+ * async (reactive handlers, NDJSON streaming) are reported when their final dispatch finishes, so the duration covers
+ * the whole response. Requests that throw past the dispatcher are reported as 500.
+ * <p>
+ * Registered by {@link RequestLogConfiguration} rather than component scanning, so web slice tests that do not load
+ * the sampler are not handed a filter they cannot construct.
+ */
+public class SampledRequestLogFilter extends OncePerRequestFilter {
+
+    private static final String STARTED_AT = SampledRequestLogFilter.class.getName() + ".startedAt";
+
+    private final RequestLogSampler sampler;
+
+    public SampledRequestLogFilter(RequestLogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        long started = startedAt instanceof Long nanos ? nanos : System.nanoTime();
+        request.setAttribute(STARTED_AT, started);
+
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (failed || !isAsyncStarted(request)) {
+                sampler.completed(endpoint(request), request.getRequestURI(),
+                        failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        System.nanoTime() - started);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "(unmatched)");
+    }
+}
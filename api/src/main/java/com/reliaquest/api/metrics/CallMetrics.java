@@ -0,0 +1,109 @@
+package com.reliaquest.api.metrics;
+
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Times calls under one metric name, tagged with {@code operation} and {@code outcome}, and keeps a gauge
+ * {@code <name>.active} of calls currently running per operation. Timers publish a percentile histogram so
+ * Prometheus can aggregate quantiles across instances.
+ * <p>
+ * Outcomes: {@code ok}, {@code 404}, {@code 429}, {@code 4xx}, {@code 5xx}, {@code timeout}, {@code unavailable}
+ * (failed fast by the circuit breaker or client-side rate limiter, see {@link UpstreamUnavailableException}) and
+ * {@code error} for anything else.
+ */
+public final class CallMetrics {
+
+    public static final String OK = "ok";
+
+    private final String name;
+    private final String description;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public CallMetrics(String name, String description, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.description = description;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String operation, Supplier<T> call) {
+        AtomicInteger running = active(operation);
+        running.incrementAndGet();
+        long start = System.nanoTime();
+        String outcome = OK;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            running.decrementAndGet();
+            timer(operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public static String outcome(Throwable failure) {
+        if (failure instanceof UpstreamUnavailableException) {
+            return "unavailable";
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException || cause instanceof TimeoutException) {
+                return "timeout";
+            }
+        }
+        if (failure instanceof RestClientResponseException response) {
+            return outcome(response.getStatusCode().value());
+        }
+        if (failure instanceof ResponseStatusException status) {
+            return outcome(status.getStatusCode().value());
+        }
+        return "error";
+    }
+
+    private static String outcome(int status) {
+        if (status == 404 || status == 429) {
+            return Integer.toString(status);
+        }
+        if (status >= 500) {
+            return "5xx";
+        }
+        return status >= 400 ? "4xx" : OK;
+    }
+
+    private AtomicInteger active(String operation) {
+        return active.computeIfAbsent(operation, key -> {
+            AtomicInteger running = new AtomicInteger();
+            Gauge.builder(name + ".active", running, AtomicInteger::get)
+                    .description("Calls currently in progress")
+                    .tag("operation", key)
+                    .register(meterRegistry);
+            return running;
+        });
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ' ' + outcome, key -> Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request, at the same position as the item.
+ *
+ * @param data the result when the item was applied
+ * @param error why the item was rejected or could not be applied, otherwise {@code null}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(
+        T data,
+        String error
+) {
+
+    public static <T> BatchItemResult<T> applied(T data) {
+        return new BatchItemResult<>(data, null);
+    }
+
+    public static <T> BatchItemResult<T> rejected(String error) {
+        return new BatchItemResult<>(null, error);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record EmployeeChange(
+        long version,
+        Type type,
+        Employee employee
+) {
+
+    public enum Type {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("deleted")
+        DELETED
+    }
+}
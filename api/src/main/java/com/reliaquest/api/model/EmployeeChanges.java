@@ -0,0 +1,19 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Page of the mock API's change feed.
+ *
+ * @param epoch identifies the server's change log; versions of a different epoch are meaningless
+ * @param version roster version once {@code changes} are applied
+ * @param resync whether the requested version is no longer retained, so the full roster has to be reloaded
+ * @param changes changes after the requested version, oldest first
+ */
+public record EmployeeChanges(
+        long epoch,
+        long version,
+        boolean resync,
+        List<EmployeeChange> changes
+) {
+}
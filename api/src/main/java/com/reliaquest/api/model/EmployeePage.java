@@ -0,0 +1,15 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * One page of the roster, ordered by id.
+ *
+ * @param employees employees of this page
+ * @param next_cursor cursor of the following page, or {@code null} when this is the last one
+ */
+public record EmployeePage(
+        List<Employee> employees,
+        String next_cursor
+) {
+}
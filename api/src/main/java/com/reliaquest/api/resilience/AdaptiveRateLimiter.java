@@ -0,0 +1,64 @@
+package com.reliaquest.api.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose refill rate is tuned by additive-increase / multiplicative-decrease: every successful call nudges
+ * the rate up, every 429 cuts it and drains the bucket. Over time the rate settles just under the limit the upstream
+ * enforces, without that limit being configured anywhere.
+ */
+final class AdaptiveRateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final ResilienceProperties.RateLimit properties;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+
+    AdaptiveRateLimiter(ResilienceProperties.RateLimit properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.rate = properties.initialRate();
+        this.tokens = properties.burst();
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves one permit.
+     *
+     * @return nanoseconds the caller has to wait before using the permit, or {@code -1} when that wait would exceed
+     *         the configured maximum, in which case nothing is reserved
+     */
+    synchronized long reserve() {
+        refill();
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND);
+        if (waitNanos > properties.maxWait().toNanos()) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    synchronized void onSuccess() {
+        rate = Math.min(properties.maxRate(), rate + properties.additiveIncrease());
+    }
+
+    synchronized void onThrottled() {
+        refill();
+        rate = Math.max(properties.minRate(), rate * properties.multiplicativeDecrease());
+        tokens = Math.min(tokens, 0);
+    }
+
+    synchronized double rate() {
+        return rate;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(properties.burst(), tokens + (now - lastRefillNanos) / NANOS_PER_SECOND * rate);
+        lastRefillNanos = now;
+    }
+}
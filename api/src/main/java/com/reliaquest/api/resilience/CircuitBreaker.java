@@ -0,0 +1,140 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Closed / open / half-open breaker in front of the mock employee API.
+ * <p>
+ * A 429 opens the circuit immediately, for the upstream's {@code Retry-After} if it sent one, otherwise for the current
+ * open duration. Consecutive I/O errors or 5xx responses open it once they reach the failure threshold. After the open
+ * window a single half-open probe is let through; if it fails the circuit reopens for twice as long, up to the
+ * configured maximum.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Notified on every state change while the breaker's lock is held; must not call back into the breaker.
+     */
+    interface Listener {
+        void onStateChange(State state);
+    }
+
+    private final ResilienceProperties.Breaker properties;
+    private final LongSupplier nanoClock;
+    private final Listener listener;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+    private Duration nextOpenDuration;
+    private boolean probeInFlight;
+
+    CircuitBreaker(ResilienceProperties.Breaker properties, LongSupplier nanoClock, Listener listener) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.listener = listener;
+        this.nextOpenDuration = properties.openDuration();
+    }
+
+    /**
+     * @return {@link Duration#ZERO} when the call may proceed, otherwise how long until the circuit lets a probe through
+     */
+    synchronized Duration tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return Duration.ZERO;
+            case OPEN:
+                long remaining = openUntilNanos - nanoClock.getAsLong();
+                if (remaining > 0) {
+                    return Duration.ofNanos(remaining);
+                }
+                transition(State.HALF_OPEN);
+                probeInFlight = true;
+                return Duration.ZERO;
+            default:
+                if (probeInFlight) {
+                    return nextOpenDuration;
+                }
+                probeInFlight = true;
+                return Duration.ZERO;
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            // Any success closes it, the probe's or that of a call admitted before the circuit opened: either way the
+            // mock API is answering again.
+            probeInFlight = false;
+            nextOpenDuration = properties.openDuration();
+            transition(State.CLOSED);
+        }
+    }
+
+    /**
+     * Gives back a half-open probe that ends without reaching the mock API or without an outcome, e.g. because the rate
+     * limiter refused it, so the next call can probe instead. A release by a call admitted before the circuit opened
+     * lets at most one extra probe through.
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= properties.failureThreshold()) {
+            trip(null);
+        }
+    }
+
+    /**
+     * @param retryAfter upstream hint, or {@code null} to use the breaker's own open duration
+     */
+    synchronized void onThrottled(Duration retryAfter) {
+        consecutiveFailures++;
+        trip(retryAfter);
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return how long the circuit stays open from now, {@link Duration#ZERO} when it is not open
+     */
+    synchronized Duration remainingOpen() {
+        return state == State.OPEN
+                ? Duration.ofNanos(Math.max(0, openUntilNanos - nanoClock.getAsLong()))
+                : Duration.ZERO;
+    }
+
+    private void trip(Duration retryAfter) {
+        if (state == State.HALF_OPEN) {
+            Duration doubled = nextOpenDuration.multipliedBy(2);
+            nextOpenDuration = doubled.compareTo(properties.maxOpenDuration()) > 0 ? properties.maxOpenDuration() : doubled;
+        }
+        Duration openFor = retryAfter != null ? retryAfter : nextOpenDuration;
+        probeInFlight = false;
+        long until = nanoClock.getAsLong() + openFor.toNanos();
+        if (state == State.OPEN) {
+            openUntilNanos = Math.max(openUntilNanos, until);
+            return;
+        }
+        openUntilNanos = until;
+        transition(State.OPEN);
+    }
+
+    private void transition(State next) {
+        state = next;
+        listener.onStateChange(next);
+    }
+}
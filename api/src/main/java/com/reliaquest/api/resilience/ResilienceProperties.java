@@ -0,0 +1,68 @@
+package com.reliaquest.api.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Protection of the mock employee API, which answers 429 after a handful of requests and then refuses everything
+ * for 30-90 seconds.
+ *
+ * @param enabled when false, requests go straight to the mock API and 429s surface as client errors
+ * @param rateLimit client-side token bucket whose rate adapts to observed 429s
+ * @param retry jittered exponential backoff between attempts of one call
+ * @param breaker circuit breaker that fails fast while the mock API is refusing requests
+ */
+@ConfigurationProperties(prefix = "employee.client.resilience")
+public record ResilienceProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue Retry retry,
+        @DefaultValue Breaker breaker
+) {
+
+    /**
+     * @param initialRate permits per second before anything has been learned about the upstream limit
+     * @param minRate the rate never drops below this, so the limiter keeps probing
+     * @param maxRate the rate never grows above this
+     * @param burst tokens that can accumulate while idle
+     * @param additiveIncrease permits per second added after every successful call
+     * @param multiplicativeDecrease factor applied to the rate after every 429
+     * @param maxWait callers that would wait longer than this for a token fail fast instead
+     */
+    public record RateLimit(
+            @DefaultValue("5") double initialRate,
+            @DefaultValue("0.1") double minRate,
+            @DefaultValue("50") double maxRate,
+            @DefaultValue("5") int burst,
+            @DefaultValue("0.05") double additiveIncrease,
+            @DefaultValue("0.5") double multiplicativeDecrease,
+            @DefaultValue("2s") Duration maxWait
+    ) {
+    }
+
+    /**
+     * @param maxAttempts total attempts per call, including the first one
+     * @param initialBackoff upper bound of the first jittered delay; doubles on every further attempt
+     * @param maxBackoff cap of the jittered delay; an open circuit that stays open longer than this is not waited out
+     */
+    public record Retry(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("100ms") Duration initialBackoff,
+            @DefaultValue("2s") Duration maxBackoff
+    ) {
+    }
+
+    /**
+     * @param failureThreshold consecutive I/O errors or 5xx responses that open the circuit; a 429 opens it at once
+     * @param openDuration how long the circuit stays open when the upstream sends no {@code Retry-After}
+     * @param maxOpenDuration cap of the open duration, which doubles every time the half-open probe fails
+     */
+    public record Breaker(
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("15s") Duration openDuration,
+            @DefaultValue("2m") Duration maxOpenDuration
+    ) {
+    }
+}
@@ -0,0 +1,244 @@
+package com.reliaquest.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Guards every call {@link com.reliaquest.api.client.EmployeeClient} makes to the mock employee API.
+ * <p>
+ * Each attempt first asks the {@link CircuitBreaker} and then the {@link AdaptiveRateLimiter} for permission. A 429
+ * slows the limiter down and opens the circuit; if the circuit reopens within the retry budget the call waits for it,
+ * otherwise it fails fast with {@link UpstreamUnavailableException}. I/O errors and 5xx responses of idempotent GETs
+ * are retried with full-jitter exponential backoff.
+ * <p>
+ * Metrics: {@code employee.client.upstream.calls} by {@code outcome}, {@code employee.client.upstream.retries},
+ * {@code employee.client.upstream.rejections} by {@code reason}, {@code employee.client.circuit.transitions} by
+ * {@code state}, and the gauges {@code employee.client.circuit.state} (0 closed, 1 open, 2 half-open) and
+ * {@code employee.client.ratelimit.rate}.
+ */
+@Component
+public class ResilientRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientRequestInterceptor.class);
+
+    /**
+     * Blocks the calling thread; replaced in tests.
+     */
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    private final ResilienceProperties properties;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Sleeper sleeper;
+    private final DoubleSupplier random;
+
+    private final Counter successes;
+    private final Counter throttled;
+    private final Counter failures;
+    private final Counter retries;
+    private final Counter circuitRejections;
+    private final Counter rateLimitRejections;
+
+    @Autowired
+    public ResilientRequestInterceptor(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime, duration -> Thread.sleep(duration.toMillis()),
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ResilientRequestInterceptor(ResilienceProperties properties,
+                                MeterRegistry meterRegistry,
+                                LongSupplier nanoClock,
+                                Sleeper sleeper,
+                                DoubleSupplier random) {
+        this.properties = properties;
+        this.sleeper = sleeper;
+        this.random = random;
+        this.rateLimiter = new AdaptiveRateLimiter(properties.rateLimit(), nanoClock);
+        this.circuitBreaker = new CircuitBreaker(properties.breaker(), nanoClock, state -> {
+            logger.warn("Circuit to mock employee API is now {}", state);
+            Counter.builder("employee.client.circuit.transitions")
+                    .description("Circuit breaker state changes")
+                    .tag("state", state.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment();
+        });
+
+        this.successes = callCounter(meterRegistry, "success");
+        this.throttled = callCounter(meterRegistry, "throttled");
+        this.failures = callCounter(meterRegistry, "failure");
+        this.retries = Counter.builder("employee.client.upstream.retries")
+                .description("Attempts against the mock API beyond the first one")
+                .register(meterRegistry);
+        this.circuitRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.rateLimitRejections = rejectionCounter(meterRegistry, "rate_limited");
+
+        Gauge.builder("employee.client.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("employee.client.ratelimit.rate", rateLimiter, AdaptiveRateLimiter::rate)
+                .description("Learned permits per second towards the mock API")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!properties.enabled()) {
+            return execution.execute(request, body);
+        }
+
+        int maxAttempts = Math.max(1, properties.retry().maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            Duration circuitWait = circuitBreaker.tryAcquire();
+            if (!circuitWait.isZero()) {
+                circuitRejections.increment();
+                throw new UpstreamUnavailableException("Mock employee API is unavailable, circuit is open", circuitWait);
+            }
+
+            // Every way out of an attempt that does not report an outcome to the breaker gives its permission back.
+            boolean reported = false;
+            try {
+                awaitRateLimit();
+
+                ClientHttpResponse response;
+                try {
+                    response = execution.execute(request, body);
+                } catch (IOException ex) {
+                    failures.increment();
+                    reported = true;
+                    circuitBreaker.onFailure();
+                    if (!isIdempotent(request) || attempt >= maxAttempts) {
+                        throw ex;
+                    }
+                    logger.warn("Call to mock employee API failed (attempt {}/{}): {}", attempt, maxAttempts, ex.getMessage());
+                    backOff(attempt, Duration.ZERO);
+                    continue;
+                }
+
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                    Duration retryAfter = retryAfter(response.getHeaders());
+                    response.close();
+                    throttled.increment();
+                    rateLimiter.onThrottled();
+                    reported = true;
+                    circuitBreaker.onThrottled(retryAfter);
+                    Duration reopensIn = circuitBreaker.remainingOpen();
+                    if (attempt >= maxAttempts || reopensIn.compareTo(properties.retry().maxBackoff()) > 0) {
+                        throw new UpstreamUnavailableException("Mock employee API is rate limiting requests", reopensIn);
+                    }
+                    logger.info("Mock employee API returned 429 (attempt {}/{}), retrying in {}", attempt, maxAttempts, reopensIn);
+                    backOff(attempt, reopensIn);
+                    continue;
+                }
+
+                if (response.getStatusCode().is5xxServerError()) {
+                    failures.increment();
+                    reported = true;
+                    circuitBreaker.onFailure();
+                    if (isIdempotent(request) && attempt < maxAttempts) {
+                        response.close();
+                        backOff(attempt, Duration.ZERO);
+                        continue;
+                    }
+                    return response;
+                }
+
+                successes.increment();
+                reported = true;
+                circuitBreaker.onSuccess();
+                rateLimiter.onSuccess();
+                return response;
+            } finally {
+                if (!reported) {
+                    circuitBreaker.release();
+                }
+            }
+        }
+    }
+
+    private void awaitRateLimit() {
+        long tokenWait = rateLimiter.reserve();
+        if (tokenWait < 0) {
+            rateLimitRejections.increment();
+            throw new UpstreamUnavailableException("Client-side rate limit towards mock employee API exceeded",
+                    properties.rateLimit().maxWait());
+        }
+        if (tokenWait > 0) {
+            sleep(Duration.ofNanos(tokenWait));
+        }
+    }
+
+    /**
+     * Full jitter: a uniformly random delay up to {@code initialBackoff * 2^(attempt-1)}, capped at {@code maxBackoff},
+     * but never shorter than {@code atLeast}.
+     */
+    private void backOff(int attempt, Duration atLeast) {
+        retries.increment();
+        ResilienceProperties.Retry retry = properties.retry();
+        long ceiling = Math.min(retry.maxBackoff().toNanos(), retry.initialBackoff().toNanos() << Math.min(attempt - 1, 30));
+        Duration jittered = Duration.ofNanos((long) (random.getAsDouble() * ceiling));
+        sleep(jittered.compareTo(atLeast) < 0 ? atLeast : jittered);
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            sleeper.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while waiting for mock employee API", duration);
+        }
+    }
+
+    private static boolean isIdempotent(HttpRequest request) {
+        return HttpMethod.GET.equals(request.getMethod());
+    }
+
+    /**
+     * Only the delta-seconds form of {@code Retry-After} is honoured; anything else falls back to the breaker default.
+     */
+    private static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.client.upstream.calls")
+                .description("Attempts against the mock API by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("employee.client.upstream.rejections")
+                .description("Calls failed fast without reaching the mock API")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
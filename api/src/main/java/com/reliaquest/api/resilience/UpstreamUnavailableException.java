@@ -0,0 +1,33 @@
+package com.reliaquest.api.resilience;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * Raised without calling the mock employee API when the circuit is open or the client-side rate limit would make the
+ * caller wait too long. Maps to 503 with a {@code Retry-After} header so callers know when to try again.
+ */
+public class UpstreamUnavailableException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        long seconds = (retryAfter.toMillis() + 999) / 1000;
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, seconds)));
+        return headers;
+    }
+}
@@ -0,0 +1,284 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Column-per-field copy of a roster for large data sets. Salaries and ages are {@code int[]} columns, titles are
+ * dictionary-encoded into a {@code char[]} of codes, and ids in canonical UUID form are packed into two {@code long[]}
+ * columns; only names and emails stay {@code String[]}. Compared with a {@code List<Employee>} this drops the object
+ * header and field references per employee, shares each distinct title once, and lets salary aggregations run as
+ * plain loops over a contiguous array instead of dereferencing one object per row.
+ * <p>
+ * The roster is immutable. {@link #get(int)} and {@link #asList()} rebuild {@link Employee} records on access, so
+ * callers that need objects should fetch only the rows they return.
+ */
+public final class ColumnarRoster {
+
+    private static final int MAX_TITLES = Character.MAX_VALUE + 1;
+
+    private final int size;
+    private final long[] idHighBits;
+    private final long[] idLowBits;
+    // Ids that are not canonical UUID strings, kept verbatim by row; null when every id is packed.
+    private final String[] irregularIds;
+    private final String[] names;
+    private final int[] salaries;
+    private final int[] ages;
+    private final char[] titleCodes;
+    private final String[] titleDictionary;
+    private final String[] emails;
+
+    private ColumnarRoster(Builder builder) {
+        this.size = builder.size;
+        this.idHighBits = Arrays.copyOf(builder.idHighBits, size);
+        this.idLowBits = Arrays.copyOf(builder.idLowBits, size);
+        this.irregularIds = builder.irregularIds != null ? Arrays.copyOf(builder.irregularIds, size) : null;
+        this.names = Arrays.copyOf(builder.names, size);
+        this.salaries = Arrays.copyOf(builder.salaries, size);
+        this.ages = Arrays.copyOf(builder.ages, size);
+        this.titleCodes = Arrays.copyOf(builder.titleCodes, size);
+        this.titleDictionary = builder.titleDictionary.toArray(new String[0]);
+        this.emails = Arrays.copyOf(builder.emails, size);
+    }
+
+    public static ColumnarRoster of(List<Employee> roster) {
+        Builder builder = builder(roster.size());
+        roster.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * @param expectedSize initial column capacity; columns grow as needed
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Employee get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        return new Employee(id(row), names[row], salaries[row], ages[row], titleDictionary[titleCodes[row]],
+                emails[row]);
+    }
+
+    /**
+     * @return read-only view that materializes an {@link Employee} per {@code get}
+     */
+    public List<Employee> asList() {
+        return new EmployeeView();
+    }
+
+    /**
+     * @return the highest salary, or 0 for an empty roster
+     */
+    public int highestSalary() {
+        if (size == 0) {
+            return 0;
+        }
+        int highest = Integer.MIN_VALUE;
+        for (int salary : salaries) {
+            if (salary > highest) {
+                highest = salary;
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * @return rows of up to {@code count} employees with the highest salaries, highest first; equal salaries keep
+     * roster order, as in {@link SalaryIndex}
+     */
+    public int[] topEarnerRows(int count) {
+        int limit = Math.min(Math.max(count, 0), size);
+        int[] rows = new int[limit];
+        int[] best = new int[limit];
+        int filled = 0;
+        for (int row = 0; row < size; row++) {
+            int salary = salaries[row];
+            if (filled == limit && (limit == 0 || salary <= best[limit - 1])) {
+                continue;
+            }
+            int position = filled < limit ? filled++ : limit - 1;
+            while (position > 0 && best[position - 1] < salary) {
+                best[position] = best[position - 1];
+                rows[position] = rows[position - 1];
+                position--;
+            }
+            best[position] = salary;
+            rows[position] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * @return names of up to {@code count} employees with the highest salaries, highest first
+     */
+    public List<String> topEarnerNames(int count) {
+        int[] rows = topEarnerRows(count);
+        String[] topNames = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            topNames[i] = names[rows[i]];
+        }
+        return List.of(topNames);
+    }
+
+    /**
+     * @return number of employees per title, in order of each title's first appearance
+     */
+    public Map<String, Integer> headcountByTitle() {
+        int[] counts = new int[titleDictionary.length];
+        for (char code : titleCodes) {
+            counts[code]++;
+        }
+        Map<String, Integer> headcount = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            headcount.put(titleDictionary[code], counts[code]);
+        }
+        return headcount;
+    }
+
+    /**
+     * @return the row of the first employee with {@code id}, or -1
+     */
+    public int rowOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        if (EmployeeIds.isCanonical(id)) {
+            long high = EmployeeIds.highBits(id);
+            long low = EmployeeIds.lowBits(id);
+            for (int row = 0; row < size; row++) {
+                if (idLowBits[row] == low && idHighBits[row] == high
+                        && (irregularIds == null || irregularIds[row] == null)) {
+                    return row;
+                }
+            }
+        } else if (irregularIds != null) {
+            for (int row = 0; row < size; row++) {
+                if (id.equals(irregularIds[row])) {
+                    return row;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private String id(int row) {
+        if (irregularIds != null && irregularIds[row] != null) {
+            return irregularIds[row];
+        }
+        return new UUID(idHighBits[row], idLowBits[row]).toString();
+    }
+
+    private final class EmployeeView extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            return ColumnarRoster.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Appends employees one at a time, e.g. straight from a streamed mock API response. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final Map<String, Character> titleCodesByTitle = new HashMap<>();
+        private final List<String> titleDictionary = new ArrayList<>();
+        private int size;
+        private long[] idHighBits;
+        private long[] idLowBits;
+        private String[] irregularIds;
+        private String[] names;
+        private int[] salaries;
+        private int[] ages;
+        private char[] titleCodes;
+        private String[] emails;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            idHighBits = new long[capacity];
+            idLowBits = new long[capacity];
+            names = new String[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new char[capacity];
+            emails = new String[capacity];
+        }
+
+        public Builder add(Employee employee) {
+            if (size == salaries.length) {
+                grow();
+            }
+            // Only ids that round-trip exactly are packed, so get(row) returns the id string it was built from.
+            String id = employee.id();
+            if (EmployeeIds.isCanonical(id)) {
+                idHighBits[size] = EmployeeIds.highBits(id);
+                idLowBits[size] = EmployeeIds.lowBits(id);
+            } else {
+                if (irregularIds == null) {
+                    irregularIds = new String[salaries.length];
+                }
+                irregularIds[size] = id;
+            }
+            names[size] = employee.employee_name();
+            salaries[size] = employee.employee_salary();
+            ages[size] = employee.employee_age();
+            titleCodes[size] = titleCode(employee.employee_title());
+            emails[size] = employee.employee_email();
+            size++;
+            return this;
+        }
+
+        public ColumnarRoster build() {
+            return new ColumnarRoster(this);
+        }
+
+        private char titleCode(String title) {
+            Character code = titleCodesByTitle.get(title);
+            if (code == null) {
+                if (titleDictionary.size() == MAX_TITLES) {
+                    throw new IllegalStateException("More than " + MAX_TITLES + " distinct titles");
+                }
+                code = (char) titleDictionary.size();
+                titleCodesByTitle.put(title, code);
+                titleDictionary.add(title);
+            }
+            return code;
+        }
+
+        private void grow() {
+            int capacity = salaries.length + (salaries.length >> 1);
+            idHighBits = Arrays.copyOf(idHighBits, capacity);
+            idLowBits = Arrays.copyOf(idLowBits, capacity);
+            if (irregularIds != null) {
+                irregularIds = Arrays.copyOf(irregularIds, capacity);
+            }
+            names = Arrays.copyOf(names, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+        }
+    }
+}
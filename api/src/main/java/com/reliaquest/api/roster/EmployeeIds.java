@@ -0,0 +1,106 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Checks and packs employee ids, which the mock API issues as UUIDs, without {@link UUID#fromString(String)}: that
+ * throws on malformed input, so a flood of junk ids costs an exception each, and it allocates on every call.
+ * <p>
+ * An id is valid in the form {@code 8-4-4-4-12} hex digits of either case, the form the mock API parses; shortened
+ * forms that {@code UUID.fromString} also accepts are not. A valid id packs into two longs, the
+ * {@link UUID#getMostSignificantBits() high} and {@link UUID#getLeastSignificantBits() low} bits, which is how
+ * {@link ColumnarRoster} and {@link EmployeeNameDirectory} hold ids.
+ */
+public final class EmployeeIds {
+
+    public static final int LENGTH = 36;
+
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int digit = 0; digit < 16; digit++) {
+            HEX_DIGITS[Character.forDigit(digit, 16)] = (byte) digit;
+            HEX_DIGITS[Character.toUpperCase(Character.forDigit(digit, 16))] = (byte) digit;
+        }
+    }
+
+    private EmployeeIds() {}
+
+    public static boolean isValid(String id) {
+        return matches(id, true);
+    }
+
+    /**
+     * @return true when {@code id} is valid and lower case, i.e. exactly what {@link UUID#toString()} returns for its
+     *     bits
+     */
+    public static boolean isCanonical(String id) {
+        return matches(id, false);
+    }
+
+    /**
+     * Ids are compared as strings by the roster cache and used as keys when lookups are coalesced, so an id taken from a
+     * request should be brought into the form the mock API issues before it is passed on.
+     *
+     * @return {@code id} itself when it is {@linkplain #isCanonical(String) canonical}, its lower-case form when it is
+     *     otherwise valid, or {@code null} when it is not valid
+     */
+    public static String canonical(String id) {
+        if (isCanonical(id)) {
+            return id;
+        }
+        return isValid(id) ? id.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * @return the high 64 bits of a {@linkplain #isValid(String) valid} id; meaningless for any other string
+     */
+    public static long highBits(String id) {
+        return bits(id, 0, 18);
+    }
+
+    /**
+     * @return the low 64 bits of a {@linkplain #isValid(String) valid} id; meaningless for any other string
+     */
+    public static long lowBits(String id) {
+        return bits(id, 19, LENGTH);
+    }
+
+    /**
+     * @return the id as a {@link UUID}, or {@code null} when it is not valid
+     */
+    public static UUID toUuid(String id) {
+        return isValid(id) ? new UUID(highBits(id), lowBits(id)) : null;
+    }
+
+    private static boolean matches(String id, boolean ignoreCase) {
+        if (id == null || id.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (c >= HEX_DIGITS.length || HEX_DIGITS[c] < 0 || (!ignoreCase && c >= 'A' && c <= 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long bits(String id, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = id.charAt(i);
+            if (c != '-') {
+                bits = bits << 4 | HEX_DIGITS[c];
+            }
+        }
+        return bits;
+    }
+}
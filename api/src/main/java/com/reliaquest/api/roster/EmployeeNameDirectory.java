@@ -0,0 +1,128 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names of employees by id, as seen in mock API responses, so that a delete, which the mock API takes by name, does
+ * not have to look the employee up first. Employees never change once created, so an entry stays right until the
+ * employee is deleted; a newly loaded roster replaces all entries, which drops employees deleted elsewhere. Ids are keyed in
+ * their packed 128-bit form (see {@link EmployeeIds}), so the same id in either case finds the same entry and a
+ * malformed id is a miss without a lookup.
+ * <p>
+ * The directory only knows employees it has seen, so it cannot tell whether a name is unique; that is answered by
+ * {@link RosterSnapshot#hasOtherEmployeeNamed(String, String)} against a full roster.
+ * <p>
+ * Metrics: {@code employee.name.directory.lookups} tagged with {@code result} ({@code hit}/{@code miss}) and the
+ * gauge {@code employee.name.directory.size}.
+ */
+public final class EmployeeNameDirectory {
+
+    private static final long NO_ROSTER = -1;
+
+    private volatile Entries entries = new Entries(NO_ROSTER, 16);
+    private final Counter hits;
+    private final Counter misses;
+
+    public EmployeeNameDirectory(MeterRegistry meterRegistry) {
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("employee.name.directory.size", this, directory -> directory.entries.namesById.size())
+                .description("Employees whose name is known by id")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replaces every entry with the employees of {@code roster}, unless the entries were already built from the same
+     * {@linkplain RosterSnapshot#loadVersion() load}. Snapshots that only add the writes made through this service
+     * are skipped, as those writes reach the directory through {@link #add(Employee)} and {@link #removeKey(UUID)},
+     * so callers can hand over every roster they serve and only a newly loaded one costs a rebuild.
+     */
+    public void replaceWith(RosterSnapshot roster) {
+        if (roster == null || roster.loadVersion() == entries.loadVersion) {
+            return;
+        }
+        List<Employee> employees = roster.employees();
+        Entries replacement = new Entries(roster.loadVersion(), employees.size());
+        employees.forEach(replacement::add);
+        entries = replacement;
+    }
+
+    public void add(Employee employee) {
+        if (employee != null) {
+            entries.add(employee);
+        }
+    }
+
+    public void remove(String id) {
+        removeKey(EmployeeIds.toUuid(id));
+    }
+
+    /**
+     * @param key the id in packed form, as from {@link EmployeeIds#toUuid(String)}
+     */
+    public void removeKey(UUID key) {
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * @return the name of the employee with {@code id}, or {@code null} when it has not been seen
+     */
+    public String nameOf(String id) {
+        return nameOfKey(EmployeeIds.toUuid(id));
+    }
+
+    /**
+     * @param key the id in packed form, as from {@link EmployeeIds#toUuid(String)}
+     * @return the name of the employee with that id, or {@code null} when it has not been seen
+     */
+    public String nameOfKey(UUID key) {
+        String name = key != null ? entries.namesById.get(key) : null;
+        (name != null ? hits : misses).increment();
+        return name;
+    }
+
+    public int size() {
+        return entries.namesById.size();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.name.directory.lookups")
+                .description("Employee name lookups by id before a delete")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Entries {
+
+        // Load version of the roster these entries were built from, or NO_ROSTER before the first one.
+        private final long loadVersion;
+        private final Map<UUID, String> namesById;
+
+        Entries(long loadVersion, int expectedSize) {
+            this.loadVersion = loadVersion;
+            this.namesById = new ConcurrentHashMap<>(expectedSize);
+        }
+
+        void add(Employee employee) {
+            UUID key = EmployeeIds.toUuid(employee.id());
+            if (key == null || employee.employee_name() == null) {
+                return;
+            }
+            namesById.put(key, employee.employee_name());
+        }
+
+        void remove(UUID id) {
+            namesById.remove(id);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.concurrent.SingleFlight;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through cache of the full employee roster.
+ * <p>
+ * A snapshot younger than the ttl is served as-is. Past the ttl it is still served for the stale-while-revalidate
+ * window while a single background refresh replaces it. Beyond that window callers block on a fresh load.
+ * Creates and deletes made through this service are written through to the current snapshot, and are re-applied to
+ * any load that was in flight when they happened, so a slow load can neither resurrect a deleted employee nor drop a
+ * created one, and a cold cache still fills while writes keep coming. While the mock API is unavailable
+ * (circuit open or rate limited), an expired snapshot keeps being served instead of failing the request.
+ */
+@Component
+public class EmployeeRosterCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeRosterCache.class);
+    private static final String ROSTER = "roster";
+
+    private final EmployeeClient employeeClient;
+    private final RosterCacheProperties properties;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<RosterSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // Writes made while at least one load is in flight, guarded by this; cleared when the last load completes.
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    private int loadsInFlight;
+    private final SingleFlight<String, RosterSnapshot> rosterLoads;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter fallbacks;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    private final Counter refreshesDiscarded;
+
+    /**
+     * Background refreshes run on Spring Boot's application task executor, which is backed by virtual threads when
+     * {@code spring.threads.virtual.enabled=true}.
+     */
+    @Autowired
+    public EmployeeRosterCache(EmployeeClient employeeClient,
+                               RosterCacheProperties properties,
+                               EmployeeClientProperties clientProperties,
+                               MeterRegistry meterRegistry,
+                               @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                               Executor refreshExecutor) {
+        this(employeeClient, properties, meterRegistry, refreshExecutor, System::nanoTime,
+                clientProperties.coalesceRequests());
+    }
+
+    EmployeeRosterCache(EmployeeClient employeeClient,
+                        RosterCacheProperties properties,
+                        MeterRegistry meterRegistry,
+                        Executor refreshExecutor,
+                        LongSupplier nanoClock,
+                        boolean coalesceLoads) {
+        this.employeeClient = employeeClient;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+        this.rosterLoads = new SingleFlight<>(ROSTER, coalesceLoads, meterRegistry);
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.staleHits = lookupCounter(meterRegistry, "stale");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.fallbacks = lookupCounter(meterRegistry, "fallback");
+        this.refreshSuccesses = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+        this.refreshesDiscarded = refreshCounter(meterRegistry, "discarded");
+
+        Gauge.builder("employee.roster.cache.age", this, EmployeeRosterCache::ageSeconds)
+                .description("Seconds since the cached roster was loaded from the mock API")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("employee.roster.cache.version", this, EmployeeRosterCache::currentVersion)
+                .description("Version of the cached roster snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current roster, loading it from the mock API when there is no usable snapshot.
+     */
+    public RosterSnapshot get() {
+        if (!properties.enabled()) {
+            misses.increment();
+            return rosterLoads.execute(ROSTER, this::fetch);
+        }
+
+        RosterSnapshot current = snapshot.get();
+        if (current == null) {
+            misses.increment();
+            return load();
+        }
+
+        long age = nanoClock.getAsLong() - current.loadedAtNanos();
+        if (age < properties.ttl().toNanos()) {
+            hits.increment();
+            return current;
+        }
+        if (age < properties.ttl().plus(properties.staleWhileRevalidate()).toNanos()) {
+            staleHits.increment();
+            refreshInBackground();
+            return current;
+        }
+
+        try {
+            RosterSnapshot loaded = load();
+            misses.increment();
+            return loaded;
+        } catch (UpstreamUnavailableException ex) {
+            // The mock API is refusing calls for now; an old roster beats an error until the circuit closes again.
+            fallbacks.increment();
+            logger.warn("Mock employee API unavailable for {}, serving roster snapshot version {}",
+                    ex.getRetryAfter(), current.version());
+            return current;
+        }
+    }
+
+    /**
+     * @return false when {@code employee.cache.enabled=false}, i.e. every {@link #get()} goes to the mock API
+     */
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Returns the current snapshot without loading or refreshing, or {@code null} when nothing has been cached yet.
+     */
+    public RosterSnapshot peek() {
+        return snapshot.get();
+    }
+
+    public synchronized void onEmployeeCreated(Employee employee) {
+        recordPendingWrite(List.of(employee), List.of());
+        snapshot.updateAndGet(current -> current == null ? null : current.withEmployee(versions.incrementAndGet(), employee));
+    }
+
+    public synchronized void onEmployeeDeleted(String id) {
+        recordPendingWrite(List.of(), List.of(id));
+        snapshot.updateAndGet(current -> current == null ? null : current.withoutEmployee(versions.incrementAndGet(), id));
+    }
+
+    /**
+     * Batch counterpart of {@link #onEmployeeCreated(Employee)} and {@link #onEmployeeDeleted(String)}, applied to the
+     * cached roster as a single write.
+     */
+    public synchronized void onEmployeesChanged(List<Employee> created, Collection<String> deletedIds) {
+        if (created.isEmpty() && deletedIds.isEmpty()) {
+            return;
+        }
+        recordPendingWrite(List.copyOf(created), List.copyOf(deletedIds));
+        snapshot.updateAndGet(current -> current == null
+                ? null
+                : current.withChanges(versions.incrementAndGet(), created, deletedIds));
+    }
+
+    public synchronized void invalidate() {
+        recordPendingWrite(null, null);
+        snapshot.set(null);
+    }
+
+    /**
+     * Concurrent misses and background refreshes share one upstream call; followers receive the leader's snapshot,
+     * with the writes made since the leader started applied to it.
+     */
+    private RosterSnapshot load() {
+        return rosterLoads.execute(ROSTER, () -> {
+            long writesAtStart = beginLoad();
+            try {
+                return install(fetch(), writesAtStart);
+            } finally {
+                endLoad();
+            }
+        });
+    }
+
+    private RosterSnapshot fetch() {
+        List<Employee> employees = employeeClient.getEmployees();
+        RosterSnapshot current = snapshot.get();
+        if (current != null && current.employees() == employees) {
+            // The client revalidated the roster it handed out last time; keep the version and the built indexes.
+            return current.reloadedAt(nanoClock.getAsLong());
+        }
+        return RosterSnapshot.of(versions.incrementAndGet(), employees, nanoClock.getAsLong());
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load();
+                    refreshSuccesses.increment();
+                } catch (Exception ex) {
+                    refreshFailures.increment();
+                    logger.warn("Background refresh of employee roster failed, serving stale snapshot", ex);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException ex) {
+            refreshing.set(false);
+            throw ex;
+        }
+    }
+
+    private synchronized long beginLoad() {
+        loadsInFlight++;
+        return writes.get();
+    }
+
+    private synchronized void endLoad() {
+        if (--loadsInFlight == 0) {
+            pendingWrites.clear();
+        }
+    }
+
+    private void recordPendingWrite(List<Employee> created, Collection<String> deletedIds) {
+        long write = writes.incrementAndGet();
+        if (loadsInFlight > 0) {
+            pendingWrites.add(new PendingWrite(write, created, deletedIds));
+        }
+    }
+
+    /**
+     * Installs {@code loaded} with every write made since {@code writesAtStart} re-applied, and returns what was
+     * installed. The mock API may or may not have reflected those writes already, which re-applying them tolerates.
+     */
+    private synchronized RosterSnapshot install(RosterSnapshot loaded, long writesAtStart) {
+        if (writes.get() == writesAtStart) {
+            snapshot.set(loaded);
+            return loaded;
+        }
+        List<Employee> created = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        for (PendingWrite write : pendingWrites) {
+            if (write.sequence() <= writesAtStart) {
+                continue;
+            }
+            if (write.invalidation()) {
+                // The cache was invalidated while loading; hand this roster to the caller but don't cache it.
+                refreshesDiscarded.increment();
+                return loaded;
+            }
+            created.removeIf(employee -> write.deletedIds().contains(employee.id()));
+            created.addAll(write.created());
+            deletedIds.addAll(write.deletedIds());
+        }
+        RosterSnapshot reconciled = loaded.withChanges(versions.incrementAndGet(), created, deletedIds);
+        snapshot.set(reconciled);
+        return reconciled;
+    }
+
+    private double currentVersion() {
+        RosterSnapshot current = snapshot.get();
+        return current == null ? Double.NaN : current.version();
+    }
+
+    private double ageSeconds() {
+        RosterSnapshot current = snapshot.get();
+        return current == null ? Double.NaN : (nanoClock.getAsLong() - current.loadedAtNanos()) / 1_000_000_000d;
+    }
+
+    /**
+     * A write-through recorded while a load was in flight; {@code created} and {@code deletedIds} are null for an
+     * invalidation.
+     */
+    private record PendingWrite(long sequence, List<Employee> created, Collection<String> deletedIds) {
+
+        boolean invalidation() {
+            return created == null;
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.roster.cache.requests")
+                .description("Roster lookups by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.roster.cache.refreshes")
+                .description("Background roster refreshes by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
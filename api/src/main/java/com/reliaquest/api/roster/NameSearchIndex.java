@@ -0,0 +1,277 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Trigram inverted index over normalized employee names for substring search.
+ * <p>
+ * Names and queries are lower-cased and stripped of combining marks, so {@code "jose"} matches {@code "Jos&eacute;"}.
+ * Queries of three or more characters intersect the posting lists of their trigrams and only verify the surviving
+ * candidates; shorter queries fall back to a scan over the pre-normalized names. Results are in roster order.
+ * <p>
+ * The index is immutable. {@link #with(Employee)} and {@link #without(Employee)} leave the built postings shared and
+ * record the write beside them: added employees in a short list that searches scan, removed ones as tombstones. A
+ * write therefore copies only the writes pending since the last {@link #build(List)}; once those outgrow 1/64 of the
+ * index (and at least {@value #MIN_PENDING_WRITES}), the write folds them into a fresh build.
+ */
+public final class NameSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_PENDING_WRITES = 1024;
+
+    private final Postings built;
+    // Docs of built removed since, sorted.
+    private final int[] removedDocs;
+    private final Employee[] added;
+    private final String[] addedNames;
+
+    private NameSearchIndex(Postings built, int[] removedDocs, Employee[] added, String[] addedNames) {
+        this.built = built;
+        this.removedDocs = removedDocs;
+        this.added = added;
+        this.addedNames = addedNames;
+    }
+
+    public static NameSearchIndex build(List<Employee> roster) {
+        Employee[] docs = roster.toArray(new Employee[0]);
+        String[] normalizedNames = new String[docs.length];
+        Map<Long, PostingBuilder> builders = new HashMap<>();
+        for (int doc = 0; doc < docs.length; doc++) {
+            String name = normalize(docs[doc].employee_name());
+            normalizedNames[doc] = name;
+            for (int i = 0; i + GRAM <= name.length(); i++) {
+                builders.computeIfAbsent(trigram(name, i), ignored -> new PostingBuilder()).add(doc);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(Math.max(16, (int) (builders.size() / 0.75f) + 1));
+        builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+        return new NameSearchIndex(
+                new Postings(docs, normalizedNames, postings), new int[0], new Employee[0], new String[0]);
+    }
+
+    /**
+     * Lower-cases {@code value} and removes combining marks so that accented and unaccented spellings compare equal.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (isAscii(lower)) {
+            return lower;
+        }
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type != Character.NON_SPACING_MARK
+                    && type != Character.ENCLOSING_MARK
+                    && type != Character.COMBINING_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    public int size() {
+        return built.docs.length - removedDocs.length + added.length;
+    }
+
+    /**
+     * @return employees whose normalized name contains the normalized {@code query}, in roster order
+     */
+    public List<Employee> search(String query) {
+        String needle = normalize(query);
+        List<Employee> matches = new ArrayList<>();
+        if (needle.length() < GRAM) {
+            for (int doc = 0; doc < built.docs.length; doc++) {
+                if (built.normalizedNames[doc].contains(needle) && !isRemoved(doc)) {
+                    matches.add(built.docs[doc]);
+                }
+            }
+        } else {
+            int[][] lists = built.postingLists(needle);
+            if (lists != null) {
+                candidates:
+                for (int doc : lists[0]) {
+                    for (int j = 1; j < lists.length; j++) {
+                        if (lists[j] != lists[j - 1] && Arrays.binarySearch(lists[j], doc) < 0) {
+                            continue candidates;
+                        }
+                    }
+                    if (built.normalizedNames[doc].contains(needle) && !isRemoved(doc)) {
+                        matches.add(built.docs[doc]);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < added.length; i++) {
+            if (addedNames[i].contains(needle)) {
+                matches.add(added[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return a copy of this index with {@code employee} appended
+     */
+    public NameSearchIndex with(Employee employee) {
+        Employee[] newAdded = Arrays.copyOf(added, added.length + 1);
+        String[] newNames = Arrays.copyOf(addedNames, addedNames.length + 1);
+        newAdded[added.length] = employee;
+        newNames[added.length] = normalize(employee.employee_name());
+        return withPending(removedDocs, newAdded, newNames);
+    }
+
+    /**
+     * @return a copy of this index without the employee with the id of {@code employee}, or this index if it is not
+     *     present
+     */
+    public NameSearchIndex without(Employee employee) {
+        for (int i = 0; i < added.length; i++) {
+            if (Objects.equals(employee.id(), added[i].id())) {
+                Employee[] newAdded = new Employee[added.length - 1];
+                String[] newNames = new String[added.length - 1];
+                System.arraycopy(added, 0, newAdded, 0, i);
+                System.arraycopy(added, i + 1, newAdded, i, added.length - i - 1);
+                System.arraycopy(addedNames, 0, newNames, 0, i);
+                System.arraycopy(addedNames, i + 1, newNames, i, added.length - i - 1);
+                return new NameSearchIndex(built, removedDocs, newAdded, newNames);
+            }
+        }
+        int doc = builtDocOf(employee);
+        if (doc < 0) {
+            return this;
+        }
+        int position = -Arrays.binarySearch(removedDocs, doc) - 1;
+        int[] newRemoved = new int[removedDocs.length + 1];
+        System.arraycopy(removedDocs, 0, newRemoved, 0, position);
+        newRemoved[position] = doc;
+        System.arraycopy(removedDocs, position, newRemoved, position + 1, removedDocs.length - position);
+        return withPending(newRemoved, added, addedNames);
+    }
+
+    private NameSearchIndex withPending(int[] newRemoved, Employee[] newAdded, String[] newNames) {
+        if (newRemoved.length + newAdded.length <= Math.max(MIN_PENDING_WRITES, built.docs.length / 64)) {
+            return new NameSearchIndex(built, newRemoved, newAdded, newNames);
+        }
+        List<Employee> live = new ArrayList<>(built.docs.length - newRemoved.length + newAdded.length);
+        for (int doc = 0, next = 0; doc < built.docs.length; doc++) {
+            if (next < newRemoved.length && newRemoved[next] == doc) {
+                next++;
+            } else {
+                live.add(built.docs[doc]);
+            }
+        }
+        live.addAll(Arrays.asList(newAdded));
+        return build(live);
+    }
+
+    /**
+     * Finds the live built doc with the id of {@code employee} among the docs with its name, through the trigrams of
+     * the name unless it is shorter than one.
+     */
+    private int builtDocOf(Employee employee) {
+        String name = normalize(employee.employee_name());
+        if (name.length() < GRAM) {
+            for (int doc = 0; doc < built.docs.length; doc++) {
+                if (isLiveDocOf(doc, employee, name)) {
+                    return doc;
+                }
+            }
+            return -1;
+        }
+        int[][] lists = built.postingLists(name);
+        if (lists == null) {
+            return -1;
+        }
+        candidates:
+        for (int doc : lists[0]) {
+            for (int j = 1; j < lists.length; j++) {
+                if (lists[j] != lists[j - 1] && Arrays.binarySearch(lists[j], doc) < 0) {
+                    continue candidates;
+                }
+            }
+            if (isLiveDocOf(doc, employee, name)) {
+                return doc;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isLiveDocOf(int doc, Employee employee, String name) {
+        return built.normalizedNames[doc].equals(name)
+                && Objects.equals(employee.id(), built.docs[doc].id())
+                && !isRemoved(doc);
+    }
+
+    private boolean isRemoved(int doc) {
+        return removedDocs.length > 0 && Arrays.binarySearch(removedDocs, doc) >= 0;
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Postings(Employee[] docs, String[] normalizedNames, Map<Long, int[]> postings) {
+
+        /**
+         * @return the posting lists of the trigrams of {@code needle}, shortest first, or null if one has none
+         */
+        int[][] postingLists(String needle) {
+            int gramCount = needle.length() - GRAM + 1;
+            int[][] lists = new int[gramCount][];
+            for (int i = 0; i < gramCount; i++) {
+                int[] posting = postings.get(trigram(needle, i));
+                if (posting == null) {
+                    return null;
+                }
+                lists[i] = posting;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+            return lists;
+        }
+    }
+
+    private static final class PostingBuilder {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+}
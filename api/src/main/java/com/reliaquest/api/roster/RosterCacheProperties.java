@@ -0,0 +1,21 @@
+package com.reliaquest.api.roster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning for {@link EmployeeRosterCache}.
+ *
+ * @param enabled when false every read goes straight to the mock API
+ * @param ttl how long a snapshot is served without revalidation
+ * @param staleWhileRevalidate how long past the ttl a snapshot may still be served while a background refresh runs
+ */
+@ConfigurationProperties(prefix = "employee.cache")
+public record RosterCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("5m") Duration staleWhileRevalidate
+) {
+}
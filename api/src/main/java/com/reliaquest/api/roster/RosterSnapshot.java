@@ -0,0 +1,275 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, versioned copy of the employee roster as last seen from the mock API.
+ * Writes never mutate a snapshot; they produce a new one with a higher version. A single create or delete copies the
+ * roster once and updates the built indexes through their pending writes rather than rebuilding or copying them.
+ */
+public final class RosterSnapshot {
+
+    private final long version;
+    private final long loadVersion;
+    private final List<Employee> employees;
+    private final long loadedAtNanos;
+    private final SalaryIndex salaryIndex;
+    private volatile NameSearchIndex nameIndex;
+    // Built on first use like the name index.
+    private volatile IdsByName idsByName;
+
+    private RosterSnapshot(long version,
+                           long loadVersion,
+                           List<Employee> employees,
+                           long loadedAtNanos,
+                           SalaryIndex salaryIndex,
+                           NameSearchIndex nameIndex,
+                           IdsByName idsByName) {
+        this.version = version;
+        this.loadVersion = loadVersion;
+        this.employees = employees;
+        this.loadedAtNanos = loadedAtNanos;
+        this.salaryIndex = salaryIndex;
+        this.nameIndex = nameIndex;
+        this.idsByName = idsByName;
+    }
+
+    public static RosterSnapshot of(long version, List<Employee> employees, long loadedAtNanos) {
+        List<Employee> roster = employees != null ? List.copyOf(employees) : List.of();
+        return new RosterSnapshot(version, version, roster, loadedAtNanos, SalaryIndex.build(roster), null, null);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return the version this snapshot had when it was loaded from the mock API; snapshots derived from it by writes
+     * share it, so it changes only when a different roster is loaded
+     */
+    public long loadVersion() {
+        return loadVersion;
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public long loadedAtNanos() {
+        return loadedAtNanos;
+    }
+
+    public SalaryIndex salaryIndex() {
+        return salaryIndex;
+    }
+
+    /**
+     * The name index is built on first use so snapshots that are never searched don't pay for it.
+     */
+    public NameSearchIndex nameIndex() {
+        NameSearchIndex index = nameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameIndex;
+                if (index == null) {
+                    index = NameSearchIndex.build(employees);
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The mock API deletes the first employee whose name matches ignoring case, so deleting {@code id} by name is only
+     * safe when this returns false.
+     *
+     * @return true when an employee other than {@code id} has {@code name}, ignoring case
+     */
+    public boolean hasOtherEmployeeNamed(String name, String id) {
+        if (name == null) {
+            return false;
+        }
+        for (String other : idsByName().idsNamed(nameKey(name))) {
+            if (!other.equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private IdsByName idsByName() {
+        IdsByName index = idsByName;
+        if (index == null) {
+            synchronized (this) {
+                index = idsByName;
+                if (index == null) {
+                    index = IdsByName.build(employees);
+                    idsByName = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Same roster and version, confirmed by the mock API at {@code reloadedAtNanos}; indexes are shared.
+     */
+    RosterSnapshot reloadedAt(long reloadedAtNanos) {
+        return new RosterSnapshot(version, loadVersion, employees, reloadedAtNanos, salaryIndex, nameIndex, idsByName);
+    }
+
+    RosterSnapshot withEmployee(long newVersion, Employee employee) {
+        Employee[] updated = employees.toArray(new Employee[employees.size() + 1]);
+        updated[employees.size()] = employee;
+        NameSearchIndex index = nameIndex;
+        IdsByName names = idsByName;
+        return new RosterSnapshot(newVersion, loadVersion, Collections.unmodifiableList(Arrays.asList(updated)),
+                loadedAtNanos, salaryIndex.with(employee), index != null ? index.with(employee) : null,
+                names != null ? names.with(employee) : null);
+    }
+
+    RosterSnapshot withoutEmployee(long newVersion, String id) {
+        List<Employee> updated = new ArrayList<>(employees.size());
+        List<Employee> removed = new ArrayList<>(1);
+        for (Employee employee : employees) {
+            if (id.equals(employee.id())) {
+                removed.add(employee);
+            } else {
+                updated.add(employee);
+            }
+        }
+        NameSearchIndex index = nameIndex;
+        if (index != null) {
+            for (Employee employee : removed) {
+                index = index.without(employee);
+            }
+        }
+        IdsByName names = idsByName;
+        if (names != null) {
+            for (Employee employee : removed) {
+                names = names.without(employee);
+            }
+        }
+        return new RosterSnapshot(newVersion, loadVersion, Collections.unmodifiableList(updated), loadedAtNanos,
+                salaryIndex.withoutAll(removed), index, names);
+    }
+
+    /**
+     * Applies a batch of writes in one pass: employees with {@code deletedIds} are dropped and {@code created} are
+     * appended, replacing any employee with the same id so applying a write twice is harmless. The salary index is
+     * rebuilt rather than updated per employee, and the name indexes are left to be rebuilt on first use, so a batch
+     * costs one copy of the roster however large it is.
+     */
+    RosterSnapshot withChanges(long newVersion, List<Employee> created, Collection<String> deletedIds) {
+        Set<String> deleted = new HashSet<>(deletedIds);
+        for (Employee employee : created) {
+            deleted.add(employee.id());
+        }
+        List<Employee> updated = new ArrayList<>(employees.size() + created.size());
+        for (Employee employee : employees) {
+            if (!deleted.contains(employee.id())) {
+                updated.add(employee);
+            }
+        }
+        updated.addAll(created);
+        List<Employee> roster = Collections.unmodifiableList(updated);
+        return new RosterSnapshot(newVersion, loadVersion, roster, loadedAtNanos, SalaryIndex.build(roster), null, null);
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Ids by lower-cased name. Like {@link NameSearchIndex}, writes leave the built table shared and record the names
+     * they change in a small overlay, so a write copies only the overlay; once it outgrows 1/64 of the table (and at
+     * least {@value #MIN_PENDING_NAMES} names) it is folded into a fresh table.
+     */
+    private static final class IdsByName {
+
+        private static final int MIN_PENDING_NAMES = 1024;
+
+        private final Map<String, List<String>> built;
+        // Names changed since the table was built, with all their current ids; an empty list for a name now unused.
+        private final Map<String, List<String>> pending;
+
+        private IdsByName(Map<String, List<String>> built, Map<String, List<String>> pending) {
+            this.built = built;
+            this.pending = pending;
+        }
+
+        static IdsByName build(List<Employee> employees) {
+            Map<String, List<String>> table = new HashMap<>(Math.max(16, (int) (employees.size() / 0.75f) + 1));
+            for (Employee employee : employees) {
+                if (employee.employee_name() != null && employee.id() != null) {
+                    table.merge(nameKey(employee.employee_name()), List.of(employee.id()), IdsByName::concat);
+                }
+            }
+            return new IdsByName(table, Map.of());
+        }
+
+        List<String> idsNamed(String key) {
+            List<String> ids = pending.get(key);
+            if (ids == null) {
+                ids = built.get(key);
+            }
+            return ids != null ? ids : List.of();
+        }
+
+        IdsByName with(Employee employee) {
+            if (employee.employee_name() == null || employee.id() == null) {
+                return this;
+            }
+            String key = nameKey(employee.employee_name());
+            return withPending(key, concat(idsNamed(key), List.of(employee.id())));
+        }
+
+        IdsByName without(Employee employee) {
+            if (employee.employee_name() == null) {
+                return this;
+            }
+            String key = nameKey(employee.employee_name());
+            List<String> remaining = new ArrayList<>(idsNamed(key));
+            if (!remaining.remove(employee.id())) {
+                return this;
+            }
+            return withPending(key, List.copyOf(remaining));
+        }
+
+        private IdsByName withPending(String key, List<String> ids) {
+            Map<String, List<String>> newPending = new HashMap<>(pending);
+            newPending.put(key, ids);
+            if (newPending.size() <= Math.max(MIN_PENDING_NAMES, built.size() / 64)) {
+                return new IdsByName(built, newPending);
+            }
+            Map<String, List<String>> table = new HashMap<>(built);
+            newPending.forEach((name, current) -> {
+                if (current.isEmpty()) {
+                    table.remove(name);
+                } else {
+                    table.put(name, current);
+                }
+            });
+            return new IdsByName(table, Map.of());
+        }
+
+        private static List<String> concat(List<String> ids, List<String> added) {
+            List<String> merged = new ArrayList<>(ids.size() + added.size());
+            merged.addAll(ids);
+            merged.addAll(added);
+            return List.copyOf(merged);
+        }
+    }
+}
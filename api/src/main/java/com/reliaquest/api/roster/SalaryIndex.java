@@ -0,0 +1,168 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Employees ordered by {@code employee_salary}, highest first, with a parallel primitive salary column.
+ * <p>
+ * Employees with equal salaries keep their roster order, matching a stable descending sort of the roster.
+ * The index is immutable; {@link #with(Employee)} and {@link #without(Employee)} splice a single entry into a copy
+ * instead of re-sorting.
+ */
+public final class SalaryIndex {
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new int[0], new Employee[0]);
+
+    private final int[] salaries;
+    private final Employee[] employees;
+    private volatile List<String> memoizedTopNames;
+
+    private SalaryIndex(int[] salaries, Employee[] employees) {
+        this.salaries = salaries;
+        this.employees = employees;
+    }
+
+    public static SalaryIndex build(List<Employee> roster) {
+        int size = roster.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+        // Pack (salary, reversed position) so a primitive sort yields salary order with ties kept in roster order.
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) roster.get(i).employee_salary() << 32) | (Integer.MAX_VALUE - i);
+        }
+        Arrays.sort(keys);
+
+        int[] salaries = new int[size];
+        Employee[] employees = new Employee[size];
+        for (int i = 0; i < size; i++) {
+            long key = keys[size - 1 - i];
+            salaries[i] = (int) (key >> 32);
+            employees[i] = roster.get(Integer.MAX_VALUE - (int) key);
+        }
+        return new SalaryIndex(salaries, employees);
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    /**
+     * @return the highest salary, or 0 for an empty roster
+     */
+    public int highestSalary() {
+        return salaries.length == 0 ? 0 : salaries[0];
+    }
+
+    /**
+     * @return up to {@code count} employees with the highest salaries, highest first
+     */
+    public List<Employee> topEarners(int count) {
+        return List.of(Arrays.copyOf(employees, Math.min(Math.max(count, 0), employees.length)));
+    }
+
+    /**
+     * @return names of up to {@code count} employees with the highest salaries, highest first
+     */
+    public List<String> topEarnerNames(int count) {
+        int limit = Math.min(Math.max(count, 0), employees.length);
+        List<String> memoized = memoizedTopNames;
+        if (memoized != null && memoized.size() == limit) {
+            return memoized;
+        }
+        String[] names = new String[limit];
+        for (int i = 0; i < limit; i++) {
+            names[i] = employees[i].employee_name();
+        }
+        List<String> topNames = Collections.unmodifiableList(Arrays.asList(names));
+        memoizedTopNames = topNames;
+        return topNames;
+    }
+
+    /**
+     * @return a copy of this index with {@code employee} placed after any existing employees on the same salary
+     */
+    public SalaryIndex with(Employee employee) {
+        int salary = employee.employee_salary();
+        int position = firstIndexBelow(salary);
+
+        int[] newSalaries = new int[salaries.length + 1];
+        Employee[] newEmployees = new Employee[employees.length + 1];
+        System.arraycopy(salaries, 0, newSalaries, 0, position);
+        System.arraycopy(employees, 0, newEmployees, 0, position);
+        newSalaries[position] = salary;
+        newEmployees[position] = employee;
+        System.arraycopy(salaries, position, newSalaries, position + 1, salaries.length - position);
+        System.arraycopy(employees, position, newEmployees, position + 1, employees.length - position);
+        return new SalaryIndex(newSalaries, newEmployees);
+    }
+
+    /**
+     * @return a copy of this index without {@code employee}, or this index if it is not present
+     */
+    public SalaryIndex without(Employee employee) {
+        int salary = employee.employee_salary();
+        int position = -1;
+        for (int i = firstIndexAtOrBelow(salary); i < salaries.length && salaries[i] == salary; i++) {
+            if (employees[i].equals(employee)) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            return this;
+        }
+
+        int[] newSalaries = new int[salaries.length - 1];
+        Employee[] newEmployees = new Employee[employees.length - 1];
+        System.arraycopy(salaries, 0, newSalaries, 0, position);
+        System.arraycopy(employees, 0, newEmployees, 0, position);
+        System.arraycopy(salaries, position + 1, newSalaries, position, salaries.length - position - 1);
+        System.arraycopy(employees, position + 1, newEmployees, position, employees.length - position - 1);
+        return new SalaryIndex(newSalaries, newEmployees);
+    }
+
+    public SalaryIndex withoutAll(Collection<Employee> removed) {
+        SalaryIndex index = this;
+        for (Employee employee : removed) {
+            index = index.without(employee);
+        }
+        return index;
+    }
+
+    // First position whose salary is strictly lower than the given one (salaries are descending).
+    private int firstIndexBelow(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First position whose salary is lower than or equal to the given one (salaries are descending).
+    private int firstIndexAtOrBelow(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
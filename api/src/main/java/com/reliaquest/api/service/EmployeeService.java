@@ -1,130 +1,515 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.concurrent.SingleFlight;
+import com.reliaquest.api.metrics.CallMetrics;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import com.reliaquest.api.roster.ColumnarRoster;
+import com.reliaquest.api.roster.EmployeeIds;
+import com.reliaquest.api.roster.EmployeeNameDirectory;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.NameSearchIndex;
+import com.reliaquest.api.roster.RosterSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * Employee operations behind the controllers. Each public operation is timed as {@code employee.service.calls} by
+ * {@code operation} and {@code outcome} (see {@link CallMetrics}); upstream calls it makes are timed separately by the
+ * {@link EmployeeClient}, so the difference is time spent in the cache, indexes and request coalescing.
+ */
 @Service
 public class EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
     private final EmployeeClient employeeClient;
+    private final EmployeeRosterCache rosterCache;
+    private final SingleFlight<String, Employee> employeeLookups;
+    private final CallMetrics serviceCalls;
+    private final PagePrefetcher pagePrefetcher;
+    private final EmployeeNameDirectory nameDirectory;
 
-    //SUGGESTION:
-    /*
-    1. I was thinking to implement a map/list to store Employees in memory (sort of cache).
-    But then realised the mock API server is the source of truth, and we should depend on it for response.
-    2. Cache here would have helped to improve data access and manipulation without fetching all employees again and again.
+    /**
+     * @param prefetchExecutor runs page prefetches; Spring Boot's application task executor, backed by virtual threads
+     *                         when {@code spring.threads.virtual.enabled=true}
      */
-
-    public EmployeeService(EmployeeClient employeeClient) {
+    public EmployeeService(EmployeeClient employeeClient,
+                           EmployeeRosterCache rosterCache,
+                           EmployeeClientProperties clientProperties,
+                           MeterRegistry meterRegistry,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                           Executor prefetchExecutor) {
         this.employeeClient = employeeClient;
+        this.rosterCache = rosterCache;
+        this.employeeLookups = new SingleFlight<>("employee_by_id", clientProperties.coalesceRequests(), meterRegistry);
+        this.serviceCalls = new CallMetrics("employee.service.calls", "Employee service operations", meterRegistry);
+        this.pagePrefetcher =
+                new PagePrefetcher(employeeClient::getEmployeePage, prefetchExecutor, System::nanoTime, meterRegistry);
+        this.nameDirectory = new EmployeeNameDirectory(meterRegistry);
     }
 
     public List<Employee> fetchAllEmployees() {
-        try {
-            List<Employee> employees = employeeClient.getEmployees();
-            logger.info("Fetched {} employees", employees != null ? employees.size() : 0);
-            return employees != null ? employees : Collections.emptyList();
-        } catch (Exception ex) {
-            logger.error("Failed to fetch employees from mock client", ex);
-            throw ex;
-        }
+        return serviceCalls.record("fetch_all", () -> {
+            try {
+                RosterSnapshot roster = rosterCache.get();
+                nameDirectory.replaceWith(roster);
+                List<Employee> employees = roster.employees();
+                logger.debug("Fetched {} employees", employees.size());
+                return employees;
+            } catch (Exception ex) {
+                logger.error("Failed to fetch employees from mock client", ex);
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * One page of the roster in id order, straight from the mock API rather than the roster cache. Before returning,
+     * the following page is requested in the background, so it is usually ready by the time the caller, done
+     * serializing this one, asks for it.
+     *
+     * @param cursor {@link EmployeePage#next_cursor()} of the previous page, or {@code null} for the first page
+     */
+    public EmployeePage fetchEmployeePage(String cursor, int limit) {
+        return serviceCalls.record("fetch_page", () -> {
+            EmployeePage page = pagePrefetcher.get(cursor, limit);
+            if (page.next_cursor() != null) {
+                pagePrefetcher.prefetch(page.next_cursor(), limit);
+            }
+            logger.debug("Fetched page of {} employees after cursor {}", page.employees().size(), cursor);
+            return page;
+        });
+    }
+
+    /**
+     * Passes every employee to {@code consumer} in roster order: from the cached snapshot when the roster cache is on,
+     * otherwise as each one is decoded from the mock API response, so the roster is never held in full.
+     *
+     * @return number of employees passed to {@code consumer}
+     */
+    public long streamAllEmployees(Consumer<? super Employee> consumer) {
+        return serviceCalls.record("stream_all", () -> {
+            try {
+                long count;
+                if (rosterCache.isEnabled()) {
+                    List<Employee> employees = rosterCache.get().employees();
+                    employees.forEach(consumer);
+                    count = employees.size();
+                } else {
+                    count = employeeClient.forEachEmployee(consumer);
+                }
+                logger.debug("Streamed {} employees", count);
+                return count;
+            } catch (Exception ex) {
+                logger.error("Failed to stream employees from mock client", ex);
+                throw ex;
+            }
+        });
     }
 
     public Employee fetchEmployeeById(String id) {
-        try {
-            Employee employee = employeeClient.getEmployeeById(id);
-            logger.info("Fetched employee with id: {}", id);
-            if (employee == null) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("Failed to fetch employee with id %s from mock client", id));
-            }
-            return employee;
-        } catch (Exception ex) {
-            logger.error("Failed to fetch employee with id {} from mock client", id, ex);
-            throw ex;
+        return serviceCalls.record("fetch_by_id", () -> {
+            try {
+                Employee employee = employeeLookups.execute(id, () -> employeeClient.getEmployeeById(id));
+                logger.debug("Fetched employee with id: {}", id);
+                if (employee == null) {
+                    throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("Failed to fetch employee with id %s from mock client", id));
+                }
+                nameDirectory.add(employee);
+                return employee;
+            } catch (UpstreamUnavailableException ex) {
+                Employee cached = findInCachedRoster(id);
+                if (cached == null) {
+                    throw ex;
+                }
+                logger.warn("Mock employee API unavailable, serving employee with id {} from cached roster", id);
+                return cached;
+            } catch (Exception ex) {
+                logger.error("Failed to fetch employee with id {} from mock client", id, ex);
+                throw ex;
+            }
+        });
+    }
+
+    private Employee findInCachedRoster(String id) {
+        RosterSnapshot snapshot = rosterCache.peek();
+        if (snapshot == null) {
+            return null;
         }
+        return snapshot.employees().stream()
+                .filter(employee -> id.equals(employee.id()))
+                .findFirst()
+                .orElse(null);
     }
 
     public List<Employee> searchEmployeesByNameSearch(String name) {
-        try {
-            List<Employee> allEmployees = fetchAllEmployees();
-            List<Employee> filteredEmployees = allEmployees.stream()
-                    .filter(e -> e.employee_name().toLowerCase().contains(name.toLowerCase()))
-                    .toList();
-            logger.info("Found {} employees matching name search: {}", filteredEmployees.size(), name);
-            return filteredEmployees;
-        } catch (Exception ex) {
-            logger.error("Failed to search employees with name string '{}'", name, ex);
-            throw ex;
-        }
+        return serviceCalls.record("search_by_name", () -> {
+            try {
+                List<Employee> filteredEmployees = rosterCache.isEnabled()
+                        ? rosterCache.get().nameIndex().search(name)
+                        : streamNameSearch(name);
+                logger.debug("Found {} employees matching name search: {}", filteredEmployees.size(), name);
+                return filteredEmployees;
+            } catch (Exception ex) {
+                logger.error("Failed to search employees with name string '{}'", name, ex);
+                throw ex;
+            }
+        });
     }
 
     public Integer getHighestSalaryOfEmployees() {
-        try {
-            Integer highestSalary = fetchAllEmployees().stream()
-                    .map(Employee::employee_salary)
-                    .max(Integer::compareTo)
-                    .orElse(0);
-            logger.info("Highest salary found: {}", highestSalary);
-            return highestSalary;
-        } catch (Exception ex) {
-            logger.error("Failed to fetch highest salary from employees", ex);
-            throw ex;
-        }
+        return serviceCalls.record("highest_salary", () -> {
+            try {
+                int highestSalary = rosterCache.isEnabled()
+                        ? rosterCache.get().salaryIndex().highestSalary()
+                        : streamHighestSalary();
+                logger.debug("Highest salary found: {}", highestSalary);
+                return highestSalary;
+            } catch (Exception ex) {
+                logger.error("Failed to fetch highest salary from employees", ex);
+                throw ex;
+            }
+        });
     }
 
     public List<String> getTop10HighestEarningEmployeeNames() {
-        try {
-            List<String> topEarners = fetchAllEmployees().stream()
-                    .sorted((e1, e2) -> Integer.compare(e2.employee_salary(), e1.employee_salary()))
-                    .limit(10)
-                    .map(Employee::employee_name)
-                    .toList();
-            logger.info("Found {} top earning employees", topEarners.size());
-            return topEarners;
-        } catch (Exception ex) {
-            logger.error("Failed to get top 10 highest earning employees", ex);
-            throw ex;
+        return getTopHighestEarningEmployeeNames(10);
+    }
+
+    public List<String> getTopHighestEarningEmployeeNames(int count) {
+        return serviceCalls.record("top_earners", () -> {
+            try {
+                List<String> topEarners = rosterCache.isEnabled()
+                        ? rosterCache.get().salaryIndex().topEarnerNames(count)
+                        : streamTopEarnerNames(count);
+                logger.debug("Found {} top earning employees", topEarners.size());
+                return topEarners;
+            } catch (Exception ex) {
+                logger.error("Failed to get top {} highest earning employees", count, ex);
+                throw ex;
+            }
+        });
+    }
+
+    /*
+     * Without the roster cache there is no index to query. Name search filters the streamed mock API response as it
+     * arrives; the salary aggregates read it into a ColumnarRoster, whose int column they scan in one loop.
+     */
+
+    private List<Employee> streamNameSearch(String name) {
+        String needle = NameSearchIndex.normalize(name);
+        List<Employee> matches = new ArrayList<>();
+        employeeClient.forEachEmployee(employee -> {
+            if (NameSearchIndex.normalize(employee.employee_name()).contains(needle)) {
+                matches.add(employee);
+            }
+        });
+        return matches;
+    }
+
+    private int streamHighestSalary() {
+        return streamColumnarRoster().highestSalary();
+    }
+
+    private List<String> streamTopEarnerNames(int count) {
+        if (count <= 0) {
+            return List.of();
         }
+        return streamColumnarRoster().topEarnerNames(count);
+    }
+
+    private ColumnarRoster streamColumnarRoster() {
+        ColumnarRoster.Builder builder = ColumnarRoster.builder(0);
+        employeeClient.forEachEmployee(builder::add);
+        return builder.build();
     }
 
     public Employee createEmployee(@Valid CreateEmployeeInput input) {
-        try {
-            Employee createdEmployee = employeeClient.createEmployee(input);
-            logger.info("Successfully created employee with id: {}", createdEmployee.id());
-            return createdEmployee;
-        } catch (Exception ex) {
-            logger.error("Failed to create employee with name: {}", input.name(), ex);
-            throw ex;
-        }
+        return serviceCalls.record("create", () -> {
+            try {
+                Employee createdEmployee = employeeClient.createEmployee(input);
+                rosterCache.onEmployeeCreated(createdEmployee);
+                nameDirectory.add(createdEmployee);
+                logger.debug("Successfully created employee with id: {}", createdEmployee.id());
+                return createdEmployee;
+            } catch (Exception ex) {
+                logger.error("Failed to create employee with name: {}", input.name(), ex);
+                throw ex;
+            }
+        });
     }
 
+    /**
+     * Deletes by name, as the mock API requires. The name comes from the {@link EmployeeNameDirectory} when the
+     * employee has been seen before, and from {@link #fetchEmployeeById(String)} otherwise. Since the directory only
+     * knows the employees it has seen, the name is checked against the full roster the {@link EmployeeRosterCache}
+     * already holds: a name another employee shares is refused with {@code 409 Conflict}, since the mock API would
+     * delete whichever comes first. The check never loads the roster; with nothing cached the delete goes ahead as it
+     * would without the cache.
+     *
+     * @param id in {@linkplain EmployeeIds#canonical(String) canonical} form, as the roster cache holds it
+     */
     public String deleteEmployeeById(String id) {
+        return serviceCalls.record("delete", () -> {
+            try {
+                UUID key = EmployeeIds.toUuid(id);
+                String name = nameDirectory.nameOfKey(key);
+                if (name == null) {
+                    name = fetchEmployeeById(id).employee_name();
+                }
+                RosterSnapshot roster = rosterCache.peek();
+                if (roster != null && roster.hasOtherEmployeeNamed(name, id)) {
+                    logger.warn("Refusing to delete employee {}: name {} is shared by other employees", id, name);
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Employee name is shared by other employees; deleting by name could remove another one");
+                }
+                Boolean response = employeeClient.deleteEmployeeByName(new DeleteEmployeeInput(name));
+
+                if (response) {
+                    rosterCache.onEmployeeDeleted(id);
+                    nameDirectory.removeKey(key);
+                    logger.debug("Successfully deleted employee: {}", name);
+                    return name;
+                } else {
+                    nameDirectory.removeKey(key);
+                    logger.warn("Failed to delete employee: {}", name);
+                    throw new RuntimeException("Failed to delete employee");
+                }
+            } catch (Exception ex) {
+                logger.error("Failed to delete employee by ID {}", id, ex);
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Creates employees in bulk. Every input is validated first and invalid ones are rejected without a call; the rest
+     * are sent to the mock API {@value EmployeeClient#MAX_BATCH_SIZE} per call instead of one call each.
+     *
+     * @return per input, the created employee or why it was not created, in input order
+     */
+    public List<BatchItemResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs) {
+        return serviceCalls.record("create_batch", () -> {
+            List<BatchItemResult<Employee>> results =
+                    applyInBatches(inputs, EmployeeService::validate, employeeClient::createEmployees);
+            List<Employee> created = new ArrayList<>();
+            for (BatchItemResult<Employee> result : results) {
+                if (result.data() != null) {
+                    created.add(result.data());
+                    nameDirectory.add(result.data());
+                }
+            }
+            rosterCache.onEmployeesChanged(created, List.of());
+            logger.debug("Created {} of {} employees", created.size(), inputs.size());
+            return results;
+        });
+    }
+
+    /**
+     * Deletes employees in bulk. The names the mock API deletes by come from the {@link EmployeeNameDirectory}, and
+     * those it lacks from the roster, which is read once instead of one {@link #fetchEmployeeById(String)} per id; the
+     * deletes are then sent {@value EmployeeClient#MAX_BATCH_SIZE} per call. Malformed, repeated and unknown ids, and
+     * ids whose name another employee in the roster shares, are rejected without a call; ids are compared in packed
+     * form, so the same id in another case counts as a repeat. When the directory knows every name the roster is not
+     * read, and names are checked against the roster only if the cache already holds one, as in
+     * {@link #deleteEmployeeById(String)}.
+     *
+     * @return per id, the name of the deleted employee or why it was not deleted, in input order
+     */
+    public List<BatchItemResult<String>> deleteEmployeesById(List<String> ids) {
+        return serviceCalls.record("delete_batch", () -> {
+            List<RequestedId> requested = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                requested.add(id != null ? RequestedId.parse(id) : null);
+            }
+            Map<UUID, String> namesById = new HashMap<>();
+            Set<UUID> unknown = namesFromDirectory(requested, namesById);
+            RosterSnapshot roster = unknown.isEmpty() ? rosterCache.peek() : rosterCache.get();
+            if (!unknown.isEmpty()) {
+                namesFromRoster(unknown, roster, namesById);
+            }
+            Set<UUID> seen = new HashSet<>();
+            List<BatchItemResult<String>> results = applyInBatches(requested, id -> {
+                if (id.key() == null) {
+                    return "Invalid id";
+                }
+                if (!seen.add(id.key())) {
+                    return "Duplicate id";
+                }
+                if (!namesById.containsKey(id.key())) {
+                    return "Employee not found";
+                }
+                return roster != null && roster.hasOtherEmployeeNamed(namesById.get(id.key()), id.canonical())
+                        ? "Employee name is shared by other employees"
+                        : null;
+            }, batch -> {
+                List<DeleteEmployeeInput> deletes = new ArrayList<>(batch.size());
+                for (RequestedId id : batch) {
+                    deletes.add(new DeleteEmployeeInput(namesById.get(id.key())));
+                }
+                List<BatchItemResult<Boolean>> deleted = employeeClient.deleteEmployeesByName(deletes);
+                List<BatchItemResult<String>> names = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    BatchItemResult<Boolean> result = deleted.get(i);
+                    names.add(Boolean.TRUE.equals(result.data())
+                            ? BatchItemResult.applied(deletes.get(i).name())
+                            : BatchItemResult.rejected(result.error() != null ? result.error() : "Employee not found"));
+                }
+                return names;
+            });
+            List<String> deletedIds = new ArrayList<>();
+            for (int i = 0; i < requested.size(); i++) {
+                if (results.get(i).data() != null) {
+                    deletedIds.add(requested.get(i).canonical());
+                    nameDirectory.removeKey(requested.get(i).key());
+                }
+            }
+            rosterCache.onEmployeesChanged(List.of(), deletedIds);
+            logger.debug("Deleted {} of {} employees", deletedIds.size(), ids.size());
+            return results;
+        });
+    }
+
+    /**
+     * Rejects items for which {@code validator} returns an error and sends the others through {@code call} in chunks
+     * of {@link EmployeeClient#MAX_BATCH_SIZE}. A failed call does not abort the rest: its items are reported as not
+     * confirmed, since the mock API may or may not have applied them.
+     */
+    private static <I, R> List<BatchItemResult<R>> applyInBatches(List<I> items,
+                                                                  Function<I, String> validator,
+                                                                  Function<List<I>, List<BatchItemResult<R>>> call) {
+        List<BatchItemResult<R>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<Integer> positions = new ArrayList<>(Math.min(items.size(), EmployeeClient.MAX_BATCH_SIZE));
+        for (int i = 0; i < items.size(); i++) {
+            String error = items.get(i) != null ? validator.apply(items.get(i)) : "Item cannot be null";
+            if (error != null) {
+                results.set(i, BatchItemResult.rejected(error));
+                continue;
+            }
+            positions.add(i);
+            if (positions.size() == EmployeeClient.MAX_BATCH_SIZE) {
+                sendBatch(items, positions, call, results);
+                positions.clear();
+            }
+        }
+        if (!positions.isEmpty()) {
+            sendBatch(items, positions, call, results);
+        }
+        return results;
+    }
+
+    private static <I, R> void sendBatch(List<I> items,
+                                         List<Integer> positions,
+                                         Function<List<I>, List<BatchItemResult<R>>> call,
+                                         List<BatchItemResult<R>> results) {
+        List<I> batch = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            batch.add(items.get(position));
+        }
         try {
-            Employee employee = fetchEmployeeById(id);
-            Boolean response = employeeClient.deleteEmployeeByName(new DeleteEmployeeInput(employee.employee_name()));
-
-            if (response) {
-                logger.info("Successfully deleted employee: {}", employee.employee_name());
-                return employee.employee_name();
-            } else {
-                logger.warn("Failed to delete employee: {}", employee.employee_name());
-                throw new RuntimeException("Failed to delete employee");
-            }
-        } catch (Exception ex) {
-            logger.error("Failed to delete employee by ID {}", id, ex);
-            throw ex;
+            List<BatchItemResult<R>> applied = call.apply(batch);
+            for (int i = 0; i < positions.size(); i++) {
+                results.set(positions.get(i), applied.get(i));
+            }
+        } catch (RuntimeException ex) {
+            String outcome = CallMetrics.outcome(ex);
+            logger.warn("Batch of {} items failed against the mock employee API: {}", batch.size(), outcome, ex);
+            BatchItemResult<R> unconfirmed =
+                    BatchItemResult.rejected("Not confirmed by the mock employee API (" + outcome + ")");
+            for (int position : positions) {
+                results.set(position, unconfirmed);
+            }
+        }
+    }
+
+    /**
+     * Puts the names the directory knows into {@code namesById}.
+     *
+     * @return the ids whose name the directory does not know
+     */
+    private Set<UUID> namesFromDirectory(List<RequestedId> ids, Map<UUID, String> namesById) {
+        Set<UUID> unknown = new HashSet<>();
+        for (RequestedId id : ids) {
+            if (id != null && id.key() != null && !namesById.containsKey(id.key()) && !unknown.contains(id.key())) {
+                String name = nameDirectory.nameOfKey(id.key());
+                if (name != null) {
+                    namesById.put(id.key(), name);
+                } else {
+                    unknown.add(id.key());
+                }
+            }
+        }
+        return unknown;
+    }
+
+    private void namesFromRoster(Set<UUID> unknown, RosterSnapshot roster, Map<UUID, String> namesById) {
+        nameDirectory.replaceWith(roster);
+        for (Employee employee : roster.employees()) {
+            UUID key = EmployeeIds.toUuid(employee.id());
+            if (key != null && unknown.contains(key)) {
+                namesById.put(key, employee.employee_name());
+            }
+        }
+    }
+
+    /**
+     * An id from a batch request, parsed once: {@code canonical} is the form the roster cache compares and
+     * {@code key} the packed form the name directory and duplicate check use. Both are null for a malformed id.
+     */
+    private record RequestedId(String canonical, UUID key) {
+
+        static RequestedId parse(String id) {
+            String canonical = EmployeeIds.canonical(id);
+            return new RequestedId(canonical, canonical != null ? EmployeeIds.toUuid(canonical) : null);
+        }
+    }
+
+    /**
+     * Mirrors the constraints declared on {@link CreateEmployeeInput}, which nothing enforces for a list body.
+     *
+     * @return the first violated constraint's message, or {@code null} for a valid input
+     */
+    private static String validate(CreateEmployeeInput input) {
+        if (input.name() == null || input.name().isBlank()) {
+            return "Name cannot be empty";
+        }
+        if (input.salary() <= 0) {
+            return "Salary must be positive";
+        }
+        if (input.age() < 16) {
+            return "Age must be at least 16";
+        }
+        if (input.age() > 75) {
+            return "Age must be at most 75";
+        }
+        if (input.title() == null || input.title().isBlank()) {
+            return "Title cannot be empty";
         }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Loads the page after the one just served in the background, so a caller walking the roster finds it ready when it
+ * asks. Prefetched pages are handed out once and only while they are younger than {@link #MAX_AGE}; at most
+ * {@link #MAX_PENDING} are kept, and prefetching is skipped rather than queued beyond that.
+ * <p>
+ * Lookups are counted as {@code employee.page.prefetch} by {@code result}: {@code hit} when a prefetched page was used,
+ * {@code miss} when the page had to be loaded on the caller's thread.
+ */
+class PagePrefetcher {
+
+    static final int MAX_PENDING = 64;
+    static final Duration MAX_AGE = Duration.ofSeconds(10);
+
+    interface Loader {
+
+        EmployeePage load(String cursor, int limit);
+    }
+
+    private record Key(String cursor, int limit) {
+    }
+
+    private record Pending(long startedAtNanos, CompletableFuture<EmployeePage> page) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(PagePrefetcher.class);
+
+    private final Loader loader;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    PagePrefetcher(Loader loader, Executor executor, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.hits = lookups("hit", meterRegistry);
+        this.misses = lookups("miss", meterRegistry);
+    }
+
+    /**
+     * @return the prefetched page for {@code cursor} if there is a fresh one, otherwise the page loaded now
+     */
+    EmployeePage get(String cursor, int limit) {
+        Pending prefetched = cursor != null ? pending.remove(new Key(cursor, limit)) : null;
+        if (prefetched != null && !isExpired(prefetched)) {
+            try {
+                EmployeePage page = prefetched.page().join();
+                hits.increment();
+                return page;
+            } catch (CompletionException ex) {
+                logger.debug("Prefetch of page after {} failed, loading it again", cursor, ex.getCause());
+            }
+        }
+        misses.increment();
+        return loader.load(cursor, limit);
+    }
+
+    void prefetch(String cursor, int limit) {
+        if (pending.size() >= MAX_PENDING) {
+            pending.values().removeIf(this::isExpired);
+            if (pending.size() >= MAX_PENDING) {
+                return;
+            }
+        }
+        Key key = new Key(cursor, limit);
+        try {
+            pending.computeIfAbsent(key, ignored -> new Pending(nanoClock.getAsLong(),
+                    CompletableFuture.supplyAsync(() -> loader.load(cursor, limit), executor)));
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Skipping prefetch of page after {}: {}", cursor, ex.getMessage());
+        }
+    }
+
+    private boolean isExpired(Pending prefetched) {
+        return nanoClock.getAsLong() - prefetched.startedAtNanos() >= MAX_AGE.toNanos();
+    }
+
+    private static Counter lookups(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("employee.page.prefetch")
+                .description("Page lookups by whether a prefetched page was used")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
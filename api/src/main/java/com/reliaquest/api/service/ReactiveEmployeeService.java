@@ -0,0 +1,95 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ReactiveEmployeeClient;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.NameSearchIndex;
+import com.reliaquest.api.roster.SalaryIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}, used when {@code employee.client.mode=reactive}.
+ * Every operation is a single pipeline over {@link ReactiveEmployeeClient}, so no thread waits on the mock API.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+public class ReactiveEmployeeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+    private final ReactiveEmployeeClient employeeClient;
+
+    public ReactiveEmployeeService(ReactiveEmployeeClient employeeClient) {
+        this.employeeClient = employeeClient;
+    }
+
+    public Mono<List<Employee>> fetchAllEmployees() {
+        return employeeClient.getEmployees()
+                .collectList()
+                .doOnNext(employees -> logger.debug("Fetched {} employees", employees.size()))
+                .doOnError(ex -> logger.error("Failed to fetch employees from mock client", ex));
+    }
+
+    public Mono<Employee> fetchEmployeeById(String id) {
+        return employeeClient.getEmployeeById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        String.format("Failed to fetch employee with id %s from mock client", id))))
+                .doOnNext(employee -> logger.debug("Fetched employee with id: {}", id))
+                .doOnError(ex -> logger.error("Failed to fetch employee with id {} from mock client", id, ex));
+    }
+
+    public Mono<List<Employee>> searchEmployeesByNameSearch(String name) {
+        String needle = NameSearchIndex.normalize(name);
+        return employeeClient.getEmployees()
+                .filter(employee -> NameSearchIndex.normalize(employee.employee_name()).contains(needle))
+                .collectList()
+                .doOnNext(matches -> logger.debug("Found {} employees matching name search: {}", matches.size(), name))
+                .doOnError(ex -> logger.error("Failed to search employees with name string '{}'", name, ex));
+    }
+
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return employeeClient.getEmployees()
+                .map(Employee::employee_salary)
+                .reduce(Integer::max)
+                .defaultIfEmpty(0)
+                .doOnNext(highestSalary -> logger.debug("Highest salary found: {}", highestSalary))
+                .doOnError(ex -> logger.error("Failed to fetch highest salary from employees", ex));
+    }
+
+    public Mono<List<String>> getTopHighestEarningEmployeeNames(int count) {
+        return employeeClient.getEmployees()
+                .collectList()
+                .map(employees -> SalaryIndex.build(employees).topEarnerNames(count))
+                .doOnNext(topEarners -> logger.debug("Found {} top earning employees", topEarners.size()))
+                .doOnError(ex -> logger.error("Failed to get top {} highest earning employees", count, ex));
+    }
+
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+        return employeeClient.createEmployee(input)
+                .doOnNext(created -> logger.debug("Successfully created employee with id: {}", created.id()))
+                .doOnError(ex -> logger.error("Failed to create employee with name: {}", input.name(), ex));
+    }
+
+    public Mono<String> deleteEmployeeById(String id) {
+        return fetchEmployeeById(id)
+                .flatMap(employee -> employeeClient.deleteEmployeeByName(new DeleteEmployeeInput(employee.employee_name()))
+                        .defaultIfEmpty(false)
+                        .flatMap(deleted -> {
+                            if (deleted) {
+                                logger.debug("Successfully deleted employee: {}", employee.employee_name());
+                                return Mono.just(employee.employee_name());
+                            }
+                            logger.warn("Failed to delete employee: {}", employee.employee_name());
+                            return Mono.<String>error(new RuntimeException("Failed to delete employee"));
+                        }))
+                .doOnError(ex -> logger.error("Failed to delete employee by ID {}", id, ex));
+    }
+}
@@ -0,0 +1,217 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.ResilienceProperties;
+import com.reliaquest.api.resilience.ResilientRequestInterceptor;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeClientConfigurationTest {
+
+    private static final String ROSTER = "{\"data\":[{\"id\":\"10000000-0000-0000-0000-000000000000\","
+            + "\"employee_name\":\"Employee TestA\",\"employee_salary\":50000,\"employee_age\":25,"
+            + "\"employee_title\":\"Developer\",\"employee_email\":\"a@example.com\"}],"
+            + "\"status\":\"Successfully processed request.\"}";
+
+    private final EmployeeClientConfiguration configuration = new EmployeeClientConfiguration();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private final AtomicReference<String> rosterETag = new AtomicReference<>();
+    private final AtomicReference<String> ifNoneMatch = new AtomicReference<>();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            acceptEncoding.set(encoding);
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            ifNoneMatch.set(exchange.getRequestHeaders().getFirst("If-None-Match"));
+            String etag = rosterETag.get();
+            if (etag != null) {
+                exchange.getResponseHeaders().add("ETag", etag);
+                if (etag.equals(ifNoneMatch.get())) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+            }
+            byte[] body = ROSTER.getBytes(StandardCharsets.UTF_8);
+            if (encoding != null && encoding.contains("gzip")) {
+                body = gzip(body);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void connectionManager_appliesPoolLimits() {
+        // Arrange
+        EmployeeClientProperties properties = properties(true, new EmployeeClientProperties.Pool(
+                40, 20, Duration.ofSeconds(30), Duration.ofMinutes(5)));
+
+        // Act
+        connectionManager = configuration.employeeClientConnectionManager(properties);
+
+        // Assert
+        assertEquals(40, connectionManager.getMaxTotal());
+        assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+        connectionManager.close();
+    }
+
+    @Test
+    void employeeClient_negotiatesGzipAndReusesConnections() {
+        // Arrange
+        EmployeeClient client = client(properties(true, defaultPool()));
+
+        // Act
+        List<Employee> first = client.getEmployees();
+        List<Employee> second = client.getEmployees();
+
+        // Assert
+        assertEquals("Employee TestA", first.get(0).employee_name());
+        assertEquals(first, second);
+        assertNotNull(acceptEncoding.get());
+        assertTrue(acceptEncoding.get().contains("gzip"));
+        assertEquals(1, clientPorts.size(), "both calls should share one keep-alive connection");
+    }
+
+    @Test
+    void employeeClient_withoutCompression_doesNotAdvertiseGzip() {
+        // Arrange
+        EmployeeClient client = client(properties(false, defaultPool()));
+
+        // Act
+        List<Employee> employees = client.getEmployees();
+
+        // Assert
+        assertEquals(1, employees.size());
+        assertNull(acceptEncoding.get());
+    }
+
+    @Test
+    void employeeClient_revalidatesRosterWithETag() {
+        // Arrange
+        rosterETag.set("\"v1\"");
+        EmployeeClient client = client(properties(true, defaultPool()));
+
+        // Act
+        List<Employee> first = client.getEmployees();
+        List<Employee> revalidated = client.getEmployees();
+        rosterETag.set("\"v2\"");
+        List<Employee> modified = client.getEmployees();
+
+        // Assert
+        assertSame(first, revalidated);
+        assertEquals(first, modified);
+        assertNotSame(first, modified);
+        assertEquals("\"v1\"", ifNoneMatch.get());
+        assertEquals(1, meterRegistry.get("employee.client.revalidations").tag("result", "not_modified")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("employee.client.revalidations").tag("result", "modified")
+                .counter().count());
+    }
+
+    @Test
+    void employeeClient_recordsCallTimerAndDecodedPayloadSize() {
+        // Arrange
+        EmployeeClient client = client(properties(true, defaultPool()));
+
+        // Act
+        client.getEmployees();
+        client.forEachEmployee(employee -> {});
+
+        // Assert
+        Timer calls = meterRegistry.get("employee.client.requests")
+                .tags("operation", "get_employees", "outcome", "ok")
+                .timer();
+        assertEquals(2, calls.count());
+        DistributionSummary responses = meterRegistry.get("employee.client.payload.size")
+                .tags("operation", "get_employees", "direction", "response")
+                .summary();
+        assertEquals(2, responses.count());
+        assertEquals(2.0 * ROSTER.getBytes(StandardCharsets.UTF_8).length, responses.totalAmount());
+        assertEquals(0, meterRegistry.get("employee.client.requests.active").gauge().value());
+    }
+
+    private EmployeeClient client(EmployeeClientProperties properties) {
+        connectionManager = configuration.employeeClientConnectionManager(properties);
+        httpClient = configuration.employeeHttpClient(connectionManager, properties);
+        RestTemplate restTemplate = configuration.employeeRestTemplate(
+                new RestTemplateBuilder(), httpClient, resilience(), properties, meterRegistry);
+        return new EmployeeClient(restTemplate, properties, meterRegistry);
+    }
+
+    private EmployeeClientProperties properties(boolean compression, EmployeeClientProperties.Pool pool) {
+        return new EmployeeClientProperties(
+                "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee",
+                EmployeeClientProperties.Mode.BLOCKING,
+                pool,
+                new EmployeeClientProperties.Timeouts(
+                        Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(2)),
+                compression,
+                true,
+                false);
+    }
+
+    private static ResilientRequestInterceptor resilience() {
+        ResilienceProperties defaults = new Binder(new MapConfigurationPropertySource())
+                .bindOrCreate("employee.client.resilience", ResilienceProperties.class);
+        return new ResilientRequestInterceptor(defaults, new SimpleMeterRegistry());
+    }
+
+    private static EmployeeClientProperties.Pool defaultPool() {
+        return new EmployeeClientProperties.Pool(10, 10, Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+
+    private static byte[] gzip(byte[] plain) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(plain);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,174 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeReplicaTest {
+
+    private static final Employee EMPLOYEE_A =
+            new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com");
+    private static final Employee EMPLOYEE_B =
+            new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com");
+    private static final Employee EMPLOYEE_C =
+            new Employee("30000000-0000-0000-0000-000000000000", "Employee_C", 300, 35, "Director", "c@example.com");
+
+    private final FakeUpstream upstream = new FakeUpstream();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeReplica replica = new EmployeeReplica(upstream, meterRegistry);
+
+    @Test
+    void sync_appliesChangesSinceLastVersion() {
+        // Arrange
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(7L, 4L, List.of(EMPLOYEE_A, EMPLOYEE_B)));
+        upstream.changes.add(new EmployeeChanges(7, 6, false, List.of(
+                new EmployeeChange(5, EmployeeChange.Type.CREATED, EMPLOYEE_C),
+                new EmployeeChange(6, EmployeeChange.Type.DELETED, EMPLOYEE_A))));
+        upstream.changes.add(new EmployeeChanges(7, 6, false, List.of()));
+
+        // Act
+        List<Employee> initial = replica.sync();
+        List<Employee> updated = replica.sync();
+        List<Employee> unchanged = replica.sync();
+
+        // Assert
+        assertEquals(List.of(EMPLOYEE_A, EMPLOYEE_B), initial);
+        assertEquals(List.of(EMPLOYEE_B, EMPLOYEE_C), updated);
+        assertSame(updated, unchanged);
+        assertEquals(List.of(4L, 6L), upstream.requestedVersions);
+        assertEquals(1, syncs("full"));
+        assertEquals(2, syncs("delta"));
+    }
+
+    @Test
+    void sync_toleratesChangesAlreadyContainedInRoster() {
+        // Arrange
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(7L, 4L, List.of(EMPLOYEE_B, EMPLOYEE_C)));
+        upstream.changes.add(new EmployeeChanges(7, 6, false, List.of(
+                new EmployeeChange(5, EmployeeChange.Type.CREATED, EMPLOYEE_C),
+                new EmployeeChange(6, EmployeeChange.Type.DELETED, EMPLOYEE_A))));
+
+        // Act
+        replica.sync();
+        List<Employee> updated = replica.sync();
+
+        // Assert
+        assertEquals(List.of(EMPLOYEE_B, EMPLOYEE_C), updated);
+    }
+
+    @Test
+    void sync_reloadsRosterWhenChangesAreNoLongerRetainedOrEpochChanged() {
+        // Arrange
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(7L, 4L, List.of(EMPLOYEE_A)));
+        upstream.changes.add(new EmployeeChanges(7, 20_000, true, List.of()));
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(7L, 20_000L, List.of(EMPLOYEE_B)));
+        upstream.changes.add(new EmployeeChanges(8, 0, false, List.of()));
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(8L, 0L, List.of(EMPLOYEE_C)));
+
+        // Act
+        replica.sync();
+        List<Employee> afterRollover = replica.sync();
+        List<Employee> afterRestart = replica.sync();
+
+        // Assert
+        assertEquals(List.of(EMPLOYEE_B), afterRollover);
+        assertEquals(List.of(EMPLOYEE_C), afterRestart);
+        assertEquals(3, syncs("full"));
+        assertEquals(0, syncs("delta"));
+    }
+
+    @Test
+    void sync_reloadsRosterEveryTimeWithoutVersionHeaders() {
+        // Arrange
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(null, null, List.of(EMPLOYEE_A)));
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(null, null, List.of(EMPLOYEE_B)));
+
+        // Act
+        replica.sync();
+        List<Employee> second = replica.sync();
+
+        // Assert
+        assertEquals(List.of(EMPLOYEE_B), second);
+        assertEquals(List.of(), upstream.requestedVersions);
+    }
+
+    @Test
+    void sync_concurrentCallersShareOneUpstreamCall() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        upstream.beforeRoster = () -> await(release);
+        upstream.rosters.add(new EmployeeReplica.VersionedRoster(7L, 4L, List.of(EMPLOYEE_A, EMPLOYEE_B)));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<List<Employee>> leader = executor.submit(replica::sync);
+            Future<List<Employee>> follower = executor.submit(replica::sync);
+            awaitReplicaSyncFollower();
+            release.countDown();
+
+            // Assert
+            assertEquals(List.of(EMPLOYEE_A, EMPLOYEE_B), leader.get(5, TimeUnit.SECONDS));
+            assertSame(leader.get(), follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, syncs("full"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double syncs(String type) {
+        return meterRegistry.get("employee.client.replica.syncs").tag("type", type).counter().count();
+    }
+
+    private void awaitReplicaSyncFollower() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("employee.client.singleflight.calls").tag("role", "follower").counter().count() < 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class FakeUpstream implements EmployeeReplica.Upstream {
+
+        private final Deque<EmployeeReplica.VersionedRoster> rosters = new ArrayDeque<>();
+        private final Deque<EmployeeChanges> changes = new ArrayDeque<>();
+        private final List<Long> requestedVersions = new ArrayList<>();
+        private Runnable beforeRoster = () -> {
+        };
+
+        @Override
+        public EmployeeReplica.VersionedRoster roster() {
+            beforeRoster.run();
+            return rosters.remove();
+        }
+
+        @Override
+        public EmployeeChanges changesSince(long version) {
+            requestedVersions.add(version);
+            return changes.remove();
+        }
+    }
+}
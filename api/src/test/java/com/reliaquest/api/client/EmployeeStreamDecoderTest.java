@@ -0,0 +1,73 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeStreamDecoderTest {
+
+    @Test
+    void decode_emitsEachEmployeeInOrder() throws IOException {
+        // Arrange
+        String json = "{\"data\":["
+                + "{\"id\":\"10000000-0000-0000-0000-000000000000\",\"employee_name\":\"Employee_A\",\"employee_salary\":100,"
+                + "\"employee_age\":25,\"employee_title\":\"Developer\",\"employee_email\":\"a@example.com\"},"
+                + "{\"id\":\"20000000-0000-0000-0000-000000000000\",\"employee_name\":\"Employee_B\",\"employee_salary\":200,"
+                + "\"employee_age\":30,\"employee_title\":\"Manager\",\"employee_email\":\"b@example.com\",\"extra\":{\"x\":[1]}}"
+                + "],\"status\":\"Successfully processed request.\"}";
+        List<Employee> received = new ArrayList<>();
+
+        // Act
+        long count = EmployeeStreamDecoder.decode(body(json), received::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com")
+        ), received);
+    }
+
+    @Test
+    void decode_skipsFieldsBeforeData() throws IOException {
+        String json = "{\"status\":\"Successfully processed request.\",\"meta\":{\"page\":[1,2]},\"data\":["
+                + "{\"id\":\"10000000-0000-0000-0000-000000000000\",\"employee_name\":\"Employee_A\",\"employee_salary\":100}]}";
+        List<Employee> received = new ArrayList<>();
+
+        assertEquals(1, EmployeeStreamDecoder.decode(body(json), received::add));
+        assertEquals("Employee_A", received.get(0).employee_name());
+    }
+
+    @Test
+    void decode_withNullOrEmptyData_emitsNothing() throws IOException {
+        assertEquals(0, EmployeeStreamDecoder.decode(body("{\"data\":[],\"status\":\"ok\"}"), employee -> fail()));
+        assertEquals(0, EmployeeStreamDecoder.decode(body("{\"data\":null,\"status\":\"ok\"}"), employee -> fail()));
+    }
+
+    @Test
+    void decode_withError_throwsResponseStatusException() {
+        String json = "{\"status\":\"Failed to process request.\",\"error\":\"boom\"}";
+
+        ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                () -> EmployeeStreamDecoder.decode(body(json), employee -> {}));
+        assertEquals("boom", thrown.getReason());
+    }
+
+    @Test
+    void decode_withNonObjectBody_throwsIOException() {
+        assertThrows(IOException.class, () -> EmployeeStreamDecoder.decode(body("[]"), employee -> {}));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
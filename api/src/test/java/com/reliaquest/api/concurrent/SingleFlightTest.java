@@ -0,0 +1,149 @@
+package com.reliaquest.api.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallers_shareOneLoad() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = callConcurrently("roster", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "loaded";
+        });
+        awaitFollowers(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, calls("leader"));
+        assertEquals(CALLERS - 1, calls("follower"));
+        assertEquals(0, meterRegistry.get("employee.client.singleflight.inflight").gauge().value());
+    }
+
+    @Test
+    void failedLoad_isRethrownToEveryCaller() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("upstream down");
+
+        // Act
+        List<Future<String>> results = callConcurrently("roster", () -> {
+            await(release);
+            throw failure;
+        });
+        awaitFollowers(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+    }
+
+    @Test
+    void completedLoad_isNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("roster", () -> "first" + loads.incrementAndGet());
+        String second = singleFlight.execute("roster", () -> "second" + loads.incrementAndGet());
+
+        assertEquals("second2", second);
+        assertEquals(2, calls("leader"));
+    }
+
+    @Test
+    void disabled_runsEveryLoader() throws Exception {
+        // Arrange
+        SingleFlight<String, String> disabled = new SingleFlight<>("disabled", false, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch allStarted = new CountDownLatch(CALLERS);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> disabled.execute("roster", () -> {
+                loads.incrementAndGet();
+                allStarted.countDown();
+                await(allStarted);
+                return "loaded";
+            })));
+        }
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(CALLERS, loads.get());
+    }
+
+    @Test
+    void differentKeys_loadIndependently() {
+        assertEquals("a", singleFlight.execute("a", () -> "a"));
+        assertEquals("b", singleFlight.execute("b", () -> "b"));
+        assertEquals(0, calls("follower"));
+    }
+
+    private List<Future<String>> callConcurrently(String key, Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(key, loader)));
+        }
+        return results;
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("follower") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double calls(String role) {
+        return meterRegistry.get("employee.client.singleflight.calls").tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
 import com.reliaquest.api.service.EmployeeService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,6 +61,58 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].employee_salary", is(60000)));
     }
 
+    @Test
+    void getAllEmployees_withCurrentETag_returns304WithoutBody() throws Exception {
+        // Arrange
+        List<Employee> mockEmployees = List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 50000, 25, "Developer", "a@example.com")
+        );
+        when(employeeService.fetchAllEmployees()).thenReturn(mockEmployees);
+        String etag = mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/employees").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        when(employeeService.fetchAllEmployees()).thenReturn(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 55000, 25, "Developer", "a@example.com")
+        ));
+        mockMvc.perform(get("/employees").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void getEmployeePage_returnsPageWithNextCursor() throws Exception {
+        // Arrange
+        String cursor = "10000000-0000-0000-0000-000000000000";
+        when(employeeService.fetchEmployeePage(cursor, 1)).thenReturn(new EmployeePage(List.of(
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 60000, 30, "Manager", "b@example.com")),
+                "20000000-0000-0000-0000-000000000000"));
+
+        // Act & Assert
+        mockMvc.perform(get("/employees/page").param("limit", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees.size()", is(1)))
+                .andExpect(jsonPath("$.employees[0].employee_name", is("Employee_B")))
+                .andExpect(jsonPath("$.next_cursor", is("20000000-0000-0000-0000-000000000000")));
+    }
+
+    @Test
+    void getEmployeePage_withInvalidLimitOrCursor_returns400() throws Exception {
+        mockMvc.perform(get("/employees/page").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/page").param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/page").param("cursor", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).fetchEmployeePage(any(), anyInt());
+    }
+
     @Test
     void getAllEmployees_whenServiceThrowsException_returns500() throws Exception {
         when(employeeService.fetchAllEmployees()).thenThrow(new RuntimeException("Service failure"));
@@ -58,6 +121,76 @@ class EmployeeControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void getAllEmployees_whenUpstreamUnavailable_returns503WithRetryAfter() throws Exception {
+        when(employeeService.fetchAllEmployees())
+                .thenThrow(new UpstreamUnavailableException("circuit open", Duration.ofSeconds(42)));
+
+        mockMvc.perform(get("/employees"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "42"));
+    }
+
+    @Test
+    void getAllEmployees_withNdjsonAccept_streamsOneEmployeePerLine() throws Exception {
+        // Arrange
+        List<Employee> mockEmployees = List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 50000, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 60000, 30, "Manager", "b@example.com")
+        );
+        when(employeeService.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            mockEmployees.forEach(consumer);
+            return (long) mockEmployees.size();
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String expected = objectMapper.writeValueAsString(mockEmployees.get(0)) + "\n"
+                + objectMapper.writeValueAsString(mockEmployees.get(1)) + "\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+        verify(employeeService, never()).fetchAllEmployees();
+    }
+
+    @Test
+    void getAllEmployees_withStreamFlag_streamsNdjson() throws Exception {
+        when(employeeService.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 50000, 25, "Developer", "a@example.com"));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/employees").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"employee_name\":\"Employee_A\"")));
+    }
+
+    @Test
+    void getAllEmployees_streamingWhenUpstreamUnavailable_returns503WithRetryAfter() throws Exception {
+        when(employeeService.streamAllEmployees(any()))
+                .thenThrow(new UpstreamUnavailableException("circuit open", Duration.ofSeconds(42)));
+
+        MvcResult result = mockMvc.perform(get("/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "42"));
+    }
+
     @Test
     void getEmployeeById_returnsEmployee() throws Exception {
         // Arrange
@@ -154,6 +287,15 @@ class EmployeeControllerTest {
                 .andExpect(content().string("Employee_A"));
     }
 
+    @Test
+    void deleteEmployee_withUpperCaseId_passesCanonicalIdToService() throws Exception {
+        when(employeeService.deleteEmployeeById("abcdef00-0000-0000-0000-000000000000")).thenReturn("Employee_A");
+
+        mockMvc.perform(delete("/employees/ABCDEF00-0000-0000-0000-000000000000"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Employee_A"));
+    }
+
     @Test
     void deleteEmployee_withInvalidUUID_returns400() throws Exception {
         mockMvc.perform(delete("/employees/invalid-uuid"))
@@ -168,4 +310,60 @@ class EmployeeControllerTest {
         mockMvc.perform(delete("/employees/10000000-0000-0000-0000-000000000000"))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    void deleteEmployee_whenNameIsShared_returns409() throws Exception {
+        when(employeeService.deleteEmployeeById("10000000-0000-0000-0000-000000000000"))
+                .thenThrow(new ResponseStatusException(HttpStatus.CONFLICT, "Employee name is shared"));
+
+        mockMvc.perform(delete("/employees/10000000-0000-0000-0000-000000000000"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createEmployees_returnsOneResultPerItemInOrder() throws Exception {
+        // Arrange
+        List<CreateEmployeeInput> inputs = List.of(
+                new CreateEmployeeInput("Employee_A", 50000, 25, "Developer"),
+                new CreateEmployeeInput("", 50000, 25, "Developer"));
+        Employee mockEmployee = new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 50000, 25, "Developer", "a@example.com");
+        when(employeeService.createEmployees(inputs)).thenReturn(List.of(
+                BatchItemResult.applied(mockEmployee), BatchItemResult.rejected("Name cannot be empty")));
+
+        // Act & Assert
+        mockMvc.perform(post("/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].data.employee_name", is("Employee_A")))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].data").doesNotExist())
+                .andExpect(jsonPath("$[1].error", is("Name cannot be empty")));
+    }
+
+    @Test
+    void deleteEmployeesById_returnsDeletedNames() throws Exception {
+        // Arrange
+        List<String> ids = List.of("10000000-0000-0000-0000-000000000000");
+        when(employeeService.deleteEmployeesById(ids)).thenReturn(List.of(BatchItemResult.applied("Employee_A")));
+
+        // Act & Assert
+        mockMvc.perform(delete("/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].data", is("Employee_A")));
+    }
+
+    @Test
+    void batchEndpoints_withEmptyBatch_return400() throws Exception {
+        mockMvc.perform(post("/employees/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/employees/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).createEmployees(any());
+        verify(employeeService, never()).deleteEmployeesById(any());
+    }
 }
@@ -0,0 +1,46 @@
+package com.reliaquest.api.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogSamplerTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+
+    private final RequestLogSampler sampler =
+            new RequestLogSampler(new RequestLogProperties(true, 3, Duration.ofSeconds(1)));
+
+    @Test
+    void completed_logsFirstRequestAndThenOneInSampleEveryPerEndpoint() {
+        // Act
+        boolean[] byId = new boolean[7];
+        for (int i = 0; i < byId.length; i++) {
+            byId[i] = sampler.completed("GET /employees/{id}", "/employees/" + i, 200, FAST);
+        }
+        boolean firstSearch = sampler.completed("GET /employees/search/{searchString}", "/employees/search/a", 200, FAST);
+
+        // Assert
+        assertArrayEquals(new boolean[] {true, false, false, true, false, false, true}, byId);
+        assertTrue(firstSearch, "each endpoint is sampled on its own counter");
+    }
+
+    @Test
+    void completed_alwaysLogsServerErrorsAndSlowRequests() {
+        sampler.completed("GET /employees", "/employees", 200, FAST);
+        sampler.completed("GET /employees", "/employees", 200, FAST);
+
+        assertTrue(sampler.completed("GET /employees", "/employees", 503, FAST));
+        assertTrue(sampler.completed("GET /employees", "/employees", 200, Duration.ofSeconds(2).toNanos()));
+        assertFalse(sampler.completed("GET /employees", "/employees", 404, FAST));
+    }
+
+    @Test
+    void completed_whenDisabled_logsNothing() {
+        RequestLogSampler disabled = new RequestLogSampler(new RequestLogProperties(false, 1, Duration.ZERO));
+
+        assertFalse(disabled.completed("GET /employees", "/employees", 500, FAST));
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.logging;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SampledRequestLogFilterTest {
+
+    private final RequestLogSampler sampler = mock(RequestLogSampler.class);
+    private final SampledRequestLogFilter filter = new SampledRequestLogFilter(sampler);
+
+    @Test
+    void doFilter_reportsMatchedRouteAndStatus() throws ServletException, IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/employees/{id}");
+                res.setStatus(404);
+            }
+        });
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        verify(sampler).completed(eq("GET /employees/{id}"), eq("/employees/42"), eq(404), anyLong());
+    }
+
+    @Test
+    void doFilter_whenHandlerThrows_reportsServerError() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/employees");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+        verify(sampler).completed(eq("POST (unmatched)"), eq("/employees"), eq(500), anyLong());
+    }
+}
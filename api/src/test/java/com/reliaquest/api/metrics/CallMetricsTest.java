@@ -0,0 +1,59 @@
+package com.reliaquest.api.metrics;
+
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallMetrics metrics = new CallMetrics("test.calls", "Test calls", meterRegistry);
+
+    @Test
+    void record_tagsSuccessAndFailureByOperationAndOutcome() {
+        // Act
+        assertEquals("value", metrics.record("lookup", () -> "value"));
+        assertThrows(HttpClientErrorException.class, () -> metrics.record("lookup", () -> {
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+        }));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("test.calls").tags("operation", "lookup", "outcome", "ok").timer().count());
+        assertEquals(1, meterRegistry.get("test.calls").tags("operation", "lookup", "outcome", "404").timer().count());
+        assertEquals(0, meterRegistry.get("test.calls.active").tags("operation", "lookup").gauge().value());
+    }
+
+    @Test
+    void record_countsCallsInProgress() {
+        double during = metrics.record("lookup",
+                () -> meterRegistry.get("test.calls.active").tags("operation", "lookup").gauge().value());
+
+        assertEquals(1, during);
+    }
+
+    @Test
+    void outcome_classifiesUpstreamFailures() {
+        assertEquals("429", CallMetrics.outcome(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)));
+        assertEquals("4xx", CallMetrics.outcome(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null)));
+        assertEquals("5xx", CallMetrics.outcome(
+                HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null)));
+        assertEquals("5xx", CallMetrics.outcome(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR)));
+        assertEquals("timeout", CallMetrics.outcome(
+                new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"))));
+        assertEquals("unavailable", CallMetrics.outcome(
+                new UpstreamUnavailableException("circuit open", Duration.ofSeconds(1))));
+        assertEquals("error", CallMetrics.outcome(new IllegalStateException()));
+    }
+}
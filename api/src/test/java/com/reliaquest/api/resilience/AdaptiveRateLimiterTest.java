@@ -0,0 +1,82 @@
+package com.reliaquest.api.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void reserve_withinBurst_doesNotWait() {
+        AdaptiveRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.reserve());
+        }
+    }
+
+    @Test
+    void reserve_beyondBurst_waitsForNextToken() {
+        AdaptiveRateLimiter limiter = limiter(Duration.ofSeconds(2));
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+
+        // 5 permits per second -> the next token arrives in 200ms, the one after in 400ms
+        assertEquals(Duration.ofMillis(200).toNanos(), limiter.reserve());
+        assertEquals(Duration.ofMillis(400).toNanos(), limiter.reserve());
+    }
+
+    @Test
+    void reserve_whenWaitExceedsMax_rejectsWithoutReserving() {
+        AdaptiveRateLimiter limiter = limiter(Duration.ofMillis(300));
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+
+        assertEquals(Duration.ofMillis(200).toNanos(), limiter.reserve());
+        assertEquals(-1, limiter.reserve());
+
+        now.addAndGet(Duration.ofMillis(200).toNanos());
+        assertEquals(Duration.ofMillis(200).toNanos(), limiter.reserve());
+    }
+
+    @Test
+    void onThrottled_halvesRateAndDrainsBucket() {
+        AdaptiveRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        limiter.onThrottled();
+
+        assertEquals(2.5, limiter.rate(), 1e-9);
+        // empty bucket at 2.5 permits per second -> 400ms until the next token
+        assertEquals(Duration.ofMillis(400).toNanos(), limiter.reserve());
+    }
+
+    @Test
+    void rate_recoversAdditivelyAndStaysWithinBounds() {
+        AdaptiveRateLimiter limiter = limiter(Duration.ofSeconds(2));
+        for (int i = 0; i < 20; i++) {
+            limiter.onThrottled();
+        }
+        assertEquals(0.1, limiter.rate(), 1e-9);
+
+        limiter.onSuccess();
+        limiter.onSuccess();
+        assertEquals(0.2, limiter.rate(), 1e-9);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(50, limiter.rate(), 1e-9);
+    }
+
+    private AdaptiveRateLimiter limiter(Duration maxWait) {
+        return new AdaptiveRateLimiter(
+                new ResilienceProperties.RateLimit(5, 0.1, 50, 5, 0.05, 0.5, maxWait), now::get);
+    }
+}
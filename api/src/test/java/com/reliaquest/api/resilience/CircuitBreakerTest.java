@@ -0,0 +1,103 @@
+package com.reliaquest.api.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<CircuitBreaker.State> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            new ResilienceProperties.Breaker(3, Duration.ofSeconds(15), Duration.ofSeconds(40)),
+            now::get,
+            transitions::add);
+
+    @Test
+    void consecutiveFailures_openCircuitAtThreshold() {
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(Duration.ZERO, breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Duration.ofSeconds(15), breaker.tryAcquire());
+    }
+
+    @Test
+    void success_resetsFailureCount() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void throttled_opensImmediatelyForRetryAfter() {
+        breaker.onThrottled(Duration.ofSeconds(60));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Duration.ofSeconds(60), breaker.remainingOpen());
+    }
+
+    @Test
+    void afterOpenWindow_letsSingleProbeThroughAndClosesOnSuccess() {
+        breaker.onThrottled(null);
+        now.addAndGet(Duration.ofSeconds(15).toNanos());
+
+        assertEquals(Duration.ZERO, breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire().isZero(), "only one probe may be in flight");
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED),
+                transitions);
+    }
+
+    @Test
+    void failedProbe_reopensForDoubleDurationUpToMax() {
+        breaker.onThrottled(null);
+        now.addAndGet(Duration.ofSeconds(15).toNanos());
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+        assertEquals(Duration.ofSeconds(30), breaker.remainingOpen());
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquire();
+        breaker.onThrottled(null);
+        assertEquals(Duration.ofSeconds(40), breaker.remainingOpen());
+    }
+
+    @Test
+    void releasedProbe_letsNextCallProbe() {
+        breaker.onThrottled(null);
+        now.addAndGet(Duration.ofSeconds(15).toNanos());
+        assertEquals(Duration.ZERO, breaker.tryAcquire());
+
+        breaker.release();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertEquals(Duration.ZERO, breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire().isZero(), "only one probe may be in flight");
+    }
+
+    @Test
+    void successOfCallStartedBeforeOpening_doesNotCloseCircuit() {
+        breaker.onThrottled(null);
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+}
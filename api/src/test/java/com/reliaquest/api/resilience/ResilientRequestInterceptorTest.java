@@ -0,0 +1,177 @@
+package com.reliaquest.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientRequestInterceptorTest {
+
+    private static final URI EMPLOYEES = URI.create("http://localhost:8112/api/v1/employee");
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Duration> sleeps = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<Object> upstream = new ArrayDeque<>();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final ClientHttpRequestExecution execution = (request, body) -> {
+        upstreamCalls.incrementAndGet();
+        Object next = upstream.poll();
+        if (next instanceof IOException ex) {
+            throw ex;
+        }
+        return (ClientHttpResponse) next;
+    };
+
+    @Test
+    void ioFailureOfGet_isRetriedAfterJitteredBackoff() throws IOException {
+        // Arrange
+        ResilientRequestInterceptor interceptor = interceptor(true);
+        upstream.add(new IOException("connection reset"));
+        upstream.add(ok());
+
+        // Act
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(Duration.ofMillis(50)), sleeps);
+        assertEquals(1, meterRegistry.get("employee.client.upstream.retries").counter().count());
+    }
+
+    @Test
+    void ioFailureOfPost_isNotRetried() {
+        ResilientRequestInterceptor interceptor = interceptor(true);
+        upstream.add(new IOException("connection reset"));
+
+        assertThrows(IOException.class,
+                () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, EMPLOYEES), new byte[0], execution));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void tooManyRequests_opensCircuitAndFailsFastUntilItCloses() throws IOException {
+        // Arrange
+        ResilientRequestInterceptor interceptor = interceptor(true);
+        upstream.add(new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS));
+
+        // Act
+        UpstreamUnavailableException first = assertThrows(UpstreamUnavailableException.class,
+                () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution));
+        UpstreamUnavailableException second = assertThrows(UpstreamUnavailableException.class,
+                () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution));
+
+        // Assert
+        assertEquals(Duration.ofSeconds(15), first.getRetryAfter());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, second.getStatusCode());
+        assertEquals(1, upstreamCalls.get(), "the open circuit must not reach the mock API");
+        assertEquals(1, meterRegistry.get("employee.client.upstream.calls").tag("outcome", "throttled").counter().count());
+        assertEquals(1, meterRegistry.get("employee.client.upstream.rejections").tag("reason", "circuit_open").counter().count());
+        assertEquals(1, meterRegistry.get("employee.client.circuit.transitions").tag("state", "open").counter().count());
+        assertEquals(2.5, meterRegistry.get("employee.client.ratelimit.rate").gauge().value(), 1e-9);
+
+        // Act: once the open window has passed, a probe goes through and closes the circuit
+        now.addAndGet(Duration.ofSeconds(15).toNanos());
+        upstream.add(ok());
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, meterRegistry.get("employee.client.circuit.state").gauge().value());
+    }
+
+    @Test
+    void tooManyRequests_withShortRetryAfter_waitsAndRetries() throws IOException {
+        // Arrange
+        ResilientRequestInterceptor interceptor = interceptor(true);
+        MockClientHttpResponse throttled = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        throttled.getHeaders().set("Retry-After", "1");
+        upstream.add(throttled);
+        upstream.add(ok());
+
+        // Act
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, EMPLOYEES), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(Duration.ofSeconds(1)), sleeps);
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void probeRejectedByRateLimiter_isGivenBackToTheBreaker() throws IOException {
+        // Arrange: a slow limiter, and a 429 whose Retry-After of 0 lets the retry probe the circuit at once
+        ResilientRequestInterceptor interceptor = interceptor(true,
+                new ResilienceProperties.RateLimit(0.1, 0.1, 50, 1, 0.05, 0.5, Duration.ofSeconds(1)));
+        MockClientHttpResponse throttled = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        throttled.getHeaders().set("Retry-After", "0");
+        upstream.add(throttled);
+
+        // Act: the retry is granted the half-open probe, then has to wait 10s for a token and is refused
+        UpstreamUnavailableException rejected = assertThrows(UpstreamUnavailableException.class,
+                () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution));
+
+        // Assert
+        assertEquals("Client-side rate limit towards mock employee API exceeded", rejected.getReason());
+        assertEquals(1, meterRegistry.get("employee.client.upstream.rejections").tag("reason", "rate_limited").counter().count());
+        assertEquals(2, meterRegistry.get("employee.client.circuit.state").gauge().value());
+
+        // Act: once a token is due, the next call probes and closes the circuit instead of finding it taken
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        upstream.add(ok());
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, meterRegistry.get("employee.client.circuit.state").gauge().value());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void disabled_passesResponsesThroughUntouched() throws IOException {
+        ResilientRequestInterceptor interceptor = interceptor(false);
+        upstream.add(new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS));
+
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES), new byte[0], execution);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    private ResilientRequestInterceptor interceptor(boolean enabled) {
+        return interceptor(enabled, new ResilienceProperties.RateLimit(5, 0.1, 50, 5, 0.05, 0.5, Duration.ofSeconds(2)));
+    }
+
+    private ResilientRequestInterceptor interceptor(boolean enabled, ResilienceProperties.RateLimit rateLimit) {
+        ResilienceProperties properties = new ResilienceProperties(
+                enabled,
+                rateLimit,
+                new ResilienceProperties.Retry(3, Duration.ofMillis(100), Duration.ofSeconds(2)),
+                new ResilienceProperties.Breaker(5, Duration.ofSeconds(15), Duration.ofMinutes(2)));
+        return new ResilientRequestInterceptor(properties, meterRegistry, now::get, duration -> {
+            sleeps.add(duration);
+            now.addAndGet(duration.toNanos());
+        }, () -> 0.5);
+    }
+
+    private static MockClientHttpResponse ok() {
+        return new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarRosterTest {
+
+    @Test
+    void of_roundTripsEveryEmployeeInRosterOrder() {
+        // Arrange
+        List<Employee> roster = List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee("not-a-uuid", "Employee_B", 300, 30, "Manager", "b@example.com"),
+                new Employee("2000000-0000-0000-0000-000000000000", "Employee_C", 200, 35, null, "c@example.com"),
+                new Employee("ABCDEF00-0000-0000-0000-000000000000", "Employee_D", 300, 40, "Developer", null)
+        );
+
+        // Act
+        ColumnarRoster columnar = ColumnarRoster.of(roster);
+
+        // Assert
+        assertEquals(4, columnar.size());
+        assertEquals(roster, columnar.asList());
+        assertEquals(roster.get(1), columnar.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnar.get(4));
+    }
+
+    @Test
+    void highestSalaryAndTopEarners_matchSalaryIndex() {
+        // Arrange
+        Random random = new Random(7);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            roster.add(new Employee(UUID.randomUUID().toString(), "Employee_" + i, random.nextInt(50), 30,
+                    "Developer", "e" + i + "@example.com"));
+        }
+        SalaryIndex index = SalaryIndex.build(roster);
+
+        // Act
+        ColumnarRoster columnar = ColumnarRoster.of(roster);
+
+        // Assert
+        assertEquals(index.highestSalary(), columnar.highestSalary());
+        for (int count : new int[] {0, 1, 10, 49, 2_000, 5_000}) {
+            assertEquals(index.topEarnerNames(count), columnar.topEarnerNames(count), "top " + count);
+        }
+    }
+
+    @Test
+    void topEarnerRows_keepsRosterOrderForTies() {
+        ColumnarRoster columnar = ColumnarRoster.of(List.of(
+                employee("A", 100), employee("B", 300), employee("C", 200), employee("D", 300)));
+
+        assertArrayEquals(new int[] {1, 3, 2, 0}, columnar.topEarnerRows(10));
+        assertEquals(List.of("B", "D"), columnar.topEarnerNames(2));
+        assertEquals(0, columnar.topEarnerRows(-1).length);
+    }
+
+    @Test
+    void headcountByTitle_countsDictionaryCodes() {
+        ColumnarRoster columnar = ColumnarRoster.of(List.of(
+                employee("A", "Developer"), employee("B", "Manager"), employee("C", "Developer")));
+
+        assertEquals(Map.of("Developer", 2, "Manager", 1), columnar.headcountByTitle());
+        assertEquals(List.of("Developer", "Manager"), List.copyOf(columnar.headcountByTitle().keySet()));
+    }
+
+    @Test
+    void rowOf_findsPackedAndIrregularIds() {
+        ColumnarRoster columnar = ColumnarRoster.of(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "A", 1, 20, "t", "a@example.com"),
+                new Employee("legacy-42", "B", 2, 20, "t", "b@example.com")));
+
+        assertEquals(0, columnar.rowOf("10000000-0000-0000-0000-000000000000"));
+        assertEquals(1, columnar.rowOf("legacy-42"));
+        assertEquals(-1, columnar.rowOf("20000000-0000-0000-0000-000000000000"));
+        assertEquals(-1, columnar.rowOf(null));
+    }
+
+    @Test
+    void builder_growsPastExpectedSize() {
+        ColumnarRoster.Builder builder = ColumnarRoster.builder(1);
+        Employee[] added = new Employee[100];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = employee("E" + i, i);
+            builder.add(added[i]);
+        }
+
+        ColumnarRoster columnar = builder.build();
+
+        assertEquals(Arrays.asList(added), columnar.asList());
+        assertEquals(99, columnar.highestSalary());
+        assertEquals(0, ColumnarRoster.of(List.of()).highestSalary());
+    }
+
+    @Test
+    void highestSalary_allNegative_returnsLeastNegative() {
+        ColumnarRoster columnar = ColumnarRoster.of(List.of(employee("A", -300), employee("B", -5), employee("C", -40)));
+
+        assertEquals(-5, columnar.highestSalary());
+        assertEquals(List.of("B", "C"), columnar.topEarnerNames(2));
+    }
+
+    private static Employee employee(String name, int salary) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, 30, "Developer", name + "@example.com");
+    }
+
+    private static Employee employee(String name, String title) {
+        return new Employee(UUID.randomUUID().toString(), name, 100, 30, title, name + "@example.com");
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.roster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeIdsTest {
+
+    @Test
+    void highAndLowBits_matchUuidFromString() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            String id = uuid.toString();
+
+            assertTrue(EmployeeIds.isValid(id));
+            assertTrue(EmployeeIds.isCanonical(id));
+            assertEquals(uuid.getMostSignificantBits(), EmployeeIds.highBits(id));
+            assertEquals(uuid.getLeastSignificantBits(), EmployeeIds.lowBits(id));
+            assertEquals(uuid, EmployeeIds.toUuid(id.toUpperCase()));
+        }
+    }
+
+    @Test
+    void isValid_acceptsEitherCaseButOnlyLowerCaseIsCanonical() {
+        String id = "5255F1A5-f9f7-4be5-829a-134bde088d17";
+
+        assertTrue(EmployeeIds.isValid(id));
+        assertFalse(EmployeeIds.isCanonical(id));
+        assertEquals(UUID.fromString(id), EmployeeIds.toUuid(id));
+    }
+
+    @Test
+    void canonical_lowerCasesValidIdsAndRejectsMalformedOnes() {
+        String id = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+        assertSame(id, EmployeeIds.canonical(id));
+        assertEquals(id, EmployeeIds.canonical("5255F1A5-f9f7-4BE5-829a-134bde088D17"));
+        assertNull(EmployeeIds.canonical("5255F1A5-f9f7-4BE5-829a-134bde088D1G"));
+        assertNull(EmployeeIds.canonical(null));
+    }
+
+    @Test
+    void isValid_rejectsMalformedIds() {
+        for (String id : new String[] {
+                null,
+                "",
+                "invalid-uuid",
+                "1-1-1-1-1",
+                "5255f1a5-f9f7-4be5-829a-134bde088d1",
+                "5255f1a5-f9f7-4be5-829a-134bde088d17a",
+                "5255f1a5f-9f7-4be5-829a-134bde088d17",
+                "5255f1a5-f9f7-4be5-829a-134bde088d1g",
+                "5255f1a5-f9f7-4be5-829a-134bde088d1\u0661",
+                "5255f1a5+f9f7-4be5-829a-134bde088d17"}) {
+            assertFalse(EmployeeIds.isValid(id), String.valueOf(id));
+            assertFalse(EmployeeIds.isCanonical(id), String.valueOf(id));
+            assertNull(EmployeeIds.toUuid(id), String.valueOf(id));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeNameDirectoryTest {
+
+    private static final Employee EMPLOYEE_A =
+            new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com");
+    private static final Employee EMPLOYEE_B =
+            new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com");
+    private static final Employee NAMESAKE_OF_A =
+            new Employee("30000000-0000-0000-0000-000000000000", "EMPLOYEE_a", 300, 35, "Developer", "c@example.com");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeNameDirectory directory = new EmployeeNameDirectory(meterRegistry);
+
+    @Test
+    void nameOf_returnsNamesOfAddedEmployeesAndCountsLookups() {
+        // Act
+        directory.add(EMPLOYEE_A);
+
+        // Assert
+        assertEquals("Employee_A", directory.nameOf(EMPLOYEE_A.id()));
+        assertNull(directory.nameOf(EMPLOYEE_B.id()));
+        assertNull(directory.nameOf(null));
+        assertEquals(1, meterRegistry.get("employee.name.directory.lookups").tag("result", "hit").counter().count());
+        assertEquals(2, meterRegistry.get("employee.name.directory.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void remove_forgetsEmployee() {
+        // Arrange
+        directory.add(EMPLOYEE_A);
+        directory.add(NAMESAKE_OF_A);
+
+        // Act
+        directory.remove(NAMESAKE_OF_A.id());
+
+        // Assert
+        assertEquals("Employee_A", directory.nameOf(EMPLOYEE_A.id()));
+        assertNull(directory.nameOf(NAMESAKE_OF_A.id()));
+        assertEquals(1, directory.size());
+    }
+
+    @Test
+    void replaceWith_dropsEmployeesMissingFromNewlyLoadedRoster() {
+        // Arrange
+        directory.add(EMPLOYEE_A);
+        directory.add(NAMESAKE_OF_A);
+        RosterSnapshot roster = RosterSnapshot.of(1, List.of(EMPLOYEE_A, EMPLOYEE_B), 0);
+
+        // Act
+        directory.replaceWith(roster);
+        directory.add(NAMESAKE_OF_A);
+        directory.replaceWith(roster.withEmployee(2, NAMESAKE_OF_A));
+
+        // Assert
+        assertEquals(3, directory.size());
+        assertEquals("Employee_B", directory.nameOf(EMPLOYEE_B.id()));
+
+        directory.replaceWith(RosterSnapshot.of(3, List.of(EMPLOYEE_A, EMPLOYEE_B), 0));
+        assertEquals(2, directory.size());
+        assertNull(directory.nameOf(NAMESAKE_OF_A.id()));
+    }
+}
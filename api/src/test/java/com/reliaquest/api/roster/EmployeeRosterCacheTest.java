@@ -0,0 +1,230 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRosterCacheTest {
+
+    private static final Employee EMPLOYEE_A =
+            new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com");
+    private static final Employee EMPLOYEE_B =
+            new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com");
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeRosterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache(true);
+    }
+
+    @Test
+    void get_withinTtl_servesSnapshotWithoutRefetch() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A));
+
+        RosterSnapshot first = cache.get();
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        RosterSnapshot second = cache.get();
+
+        assertSame(first, second);
+        verify(employeeClient, times(1)).getEmployees();
+        assertEquals(1, meterRegistry.get("employee.roster.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("employee.roster.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_pastTtl_servesStaleAndRefreshesInBackground() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A), List.of(EMPLOYEE_A, EMPLOYEE_B));
+
+        RosterSnapshot first = cache.get();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertSame(first, cache.get());
+        assertSame(first, cache.get());
+        assertEquals(1, scheduledRefreshes.size(), "only one refresh should be in flight");
+
+        scheduledRefreshes.get(0).run();
+        RosterSnapshot refreshed = cache.get();
+
+        assertEquals(2, refreshed.employees().size());
+        assertTrue(refreshed.version() > first.version());
+        assertEquals(2, meterRegistry.get("employee.roster.cache.requests").tag("result", "stale").counter().count());
+    }
+
+    @Test
+    void get_pastStaleWindow_blocksOnFreshLoad() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A), List.of(EMPLOYEE_B));
+
+        cache.get();
+        now.addAndGet(Duration.ofMinutes(10).toNanos());
+        RosterSnapshot reloaded = cache.get();
+
+        assertEquals(List.of(EMPLOYEE_B), reloaded.employees());
+        assertTrue(scheduledRefreshes.isEmpty());
+        verify(employeeClient, times(2)).getEmployees();
+    }
+
+    @Test
+    void get_whenClientRevalidatesSameRoster_keepsVersionAndIndexes() {
+        List<Employee> roster = List.of(EMPLOYEE_A, EMPLOYEE_B);
+        when(employeeClient.getEmployees()).thenReturn(roster);
+
+        RosterSnapshot first = cache.get();
+        now.addAndGet(Duration.ofMinutes(10).toNanos());
+        RosterSnapshot reloaded = cache.get();
+
+        assertNotSame(first, reloaded);
+        assertEquals(first.version(), reloaded.version());
+        assertSame(first.employees(), reloaded.employees());
+        assertSame(first.salaryIndex(), reloaded.salaryIndex());
+        assertEquals(now.get(), reloaded.loadedAtNanos());
+    }
+
+    @Test
+    void get_pastStaleWindow_whenUpstreamUnavailable_servesExpiredSnapshot() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A))
+                .thenThrow(new UpstreamUnavailableException("circuit open", Duration.ofSeconds(30)));
+
+        RosterSnapshot first = cache.get();
+        now.addAndGet(Duration.ofMinutes(10).toNanos());
+
+        assertSame(first, cache.get());
+        assertEquals(1, meterRegistry.get("employee.roster.cache.requests").tag("result", "fallback").counter().count());
+    }
+
+    @Test
+    void get_whenBackgroundRefreshFails_keepsServingStaleSnapshot() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A)).thenThrow(new RuntimeException("boom"));
+
+        RosterSnapshot first = cache.get();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.get();
+        scheduledRefreshes.get(0).run();
+
+        assertSame(first, cache.get());
+        assertEquals(1, meterRegistry.get("employee.roster.cache.refreshes").tag("outcome", "failure").counter().count());
+    }
+
+    @Test
+    void writes_areAppliedToCurrentSnapshot() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A));
+
+        RosterSnapshot loaded = cache.get();
+        cache.onEmployeeCreated(EMPLOYEE_B);
+        RosterSnapshot afterCreate = cache.get();
+        cache.onEmployeeDeleted(EMPLOYEE_A.id());
+        RosterSnapshot afterDelete = cache.get();
+
+        assertEquals(List.of(EMPLOYEE_A, EMPLOYEE_B), afterCreate.employees());
+        assertEquals(List.of(EMPLOYEE_B), afterDelete.employees());
+        assertTrue(afterCreate.version() > loaded.version());
+        assertTrue(afterDelete.version() > afterCreate.version());
+        verify(employeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void batchWrites_areAppliedToCurrentSnapshotAsOneVersion() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A));
+        Employee employeeC =
+                new Employee("30000000-0000-0000-0000-000000000000", "Employee_C", 300, 35, "Developer", "c@example.com");
+
+        RosterSnapshot loaded = cache.get();
+        cache.onEmployeesChanged(List.of(EMPLOYEE_B, employeeC), List.of(EMPLOYEE_A.id()));
+        RosterSnapshot afterBatch = cache.get();
+
+        assertEquals(List.of(EMPLOYEE_B, employeeC), afterBatch.employees());
+        assertEquals(300, afterBatch.salaryIndex().highestSalary());
+        assertEquals(List.of(EMPLOYEE_B), afterBatch.nameIndex().search("employee_b"));
+        assertEquals(loaded.version() + 1, afterBatch.version());
+        verify(employeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void refreshStartedBeforeWrite_reappliesTheWrite() {
+        when(employeeClient.getEmployees()).thenReturn(List.of(EMPLOYEE_A)).thenAnswer(invocation -> {
+            cache.onEmployeeDeleted(EMPLOYEE_A.id());
+            return List.of(EMPLOYEE_A, EMPLOYEE_B);
+        });
+
+        cache.get();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.get();
+        scheduledRefreshes.get(0).run();
+
+        assertEquals(List.of(EMPLOYEE_B), cache.get().employees());
+        assertEquals(0, meterRegistry.get("employee.roster.cache.refreshes").tag("outcome", "discarded").counter().count());
+    }
+
+    @Test
+    void coldLoad_withConcurrentCreate_returnsAndCachesRosterWithTheCreate() {
+        when(employeeClient.getEmployees()).thenAnswer(invocation -> {
+            cache.onEmployeeCreated(EMPLOYEE_B);
+            return List.of(EMPLOYEE_A);
+        });
+
+        RosterSnapshot loaded = cache.get();
+
+        assertEquals(List.of(EMPLOYEE_A, EMPLOYEE_B), loaded.employees());
+        assertSame(loaded, cache.peek());
+        verify(employeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void loadReflectingConcurrentCreate_doesNotDuplicateIt() {
+        when(employeeClient.getEmployees()).thenAnswer(invocation -> {
+            cache.onEmployeeCreated(EMPLOYEE_B);
+            return List.of(EMPLOYEE_A, EMPLOYEE_B);
+        });
+
+        assertEquals(List.of(EMPLOYEE_A, EMPLOYEE_B), cache.get().employees());
+    }
+
+    @Test
+    void loadStartedBeforeInvalidate_isNotCached() {
+        when(employeeClient.getEmployees()).thenAnswer(invocation -> {
+            cache.invalidate();
+            return List.of(EMPLOYEE_A);
+        });
+
+        assertEquals(List.of(EMPLOYEE_A), cache.get().employees());
+        assertNull(cache.peek());
+        assertEquals(1, meterRegistry.get("employee.roster.cache.refreshes").tag("outcome", "discarded").counter().count());
+    }
+
+    @Test
+    void get_whenDisabled_alwaysCallsClient() {
+        cache = newCache(false);
+        when(employeeClient.getEmployees()).thenReturn(null);
+
+        assertTrue(cache.get().employees().isEmpty());
+        assertTrue(cache.get().employees().isEmpty());
+        verify(employeeClient, times(2)).getEmployees();
+    }
+
+    private EmployeeRosterCache newCache(boolean enabled) {
+        RosterCacheProperties properties = new RosterCacheProperties(enabled, Duration.ofSeconds(30), Duration.ofMinutes(5));
+        return new EmployeeRosterCache(employeeClient, properties, meterRegistry, scheduledRefreshes::add, now::get, true);
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchIndexTest {
+
+    private static final String[] FIRST_NAMES = {"Tiger", "Bill", "Ana", "Jos\u00e9", "Zo\u00eb", "Mia", "Bob", "Anabel"};
+    private static final String[] LAST_NAMES = {"Nixon", "Bob", "Smith", "M\u00fcller", "Anderson", "O'Neil"};
+
+    @Test
+    void search_matchesCaseInsensitiveSubstrings() {
+        NameSearchIndex index = NameSearchIndex.build(List.of(
+                employee("1", "Employee TestA"),
+                employee("2", "Employee TestB"),
+                employee("3", "Other Person")
+        ));
+
+        assertEquals(List.of("1"), ids(index.search("testa")));
+        assertEquals(List.of("1", "2"), ids(index.search("EMPLOYEE")));
+        assertEquals(List.of("1", "2", "3"), ids(index.search("e")));
+        assertTrue(index.search("Random Employee").isEmpty());
+    }
+
+    @Test
+    void search_foldsAccents() {
+        NameSearchIndex index = NameSearchIndex.build(List.of(
+                employee("1", "Jos\u00e9 M\u00fcller"),
+                employee("2", "Jose Muller")
+        ));
+
+        assertEquals(List.of("1", "2"), ids(index.search("jose mu")));
+        assertEquals(List.of("1", "2"), ids(index.search("JOS\u00c9")));
+    }
+
+    @Test
+    void search_agreesWithLinearScanOnRandomRoster() {
+        Random random = new Random(7);
+        List<Employee> roster = randomRoster(random, 500);
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        for (String query : List.of("an", "ana", "bob", "nixon", "l ", "smith", "jos", "xyz", "o'n", "el a")) {
+            assertEquals(linearScan(roster, query), index.search(query), "query: " + query);
+        }
+    }
+
+    @Test
+    void withAndWithout_agreeWithRebuild() {
+        Random random = new Random(11);
+        List<Employee> roster = new ArrayList<>(randomRoster(random, 100));
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        for (int i = 0; i < 60; i++) {
+            if (random.nextBoolean() && !roster.isEmpty()) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                index = index.without(removed);
+            } else {
+                Employee added = employee(UUID.randomUUID().toString(), randomName(random));
+                roster.add(added);
+                index = index.with(added);
+            }
+        }
+
+        assertEquals(roster.size(), index.size());
+        for (String query : List.of("an", "ana", "bob", "nixon", "smith", "ller", "zoe")) {
+            assertEquals(linearScan(roster, query), index.search(query), "query: " + query);
+        }
+    }
+
+    @Test
+    void without_unknownId_returnsSameIndex() {
+        NameSearchIndex index = NameSearchIndex.build(List.of(employee("1", "Bill Bob")));
+
+        assertSame(index, index.without(employee("2", "Bill Bob")));
+    }
+
+    @Test
+    void withAndWithout_pastPendingWriteLimit_foldIntoRebuild() {
+        Random random = new Random(13);
+        List<Employee> roster = new ArrayList<>(randomRoster(random, 50));
+        roster.add(employee("short", "Al"));
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        for (int i = 0; i < 3_000; i++) {
+            if (random.nextInt(3) == 0 && !roster.isEmpty()) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                index = index.without(removed);
+            } else {
+                Employee added = employee(UUID.randomUUID().toString(), randomName(random));
+                roster.add(added);
+                index = index.with(added);
+            }
+        }
+
+        assertEquals(roster.size(), index.size());
+        for (String query : List.of("al", "an", "ana", "bob", "nixon", "smith", "ller", "zoe")) {
+            assertEquals(linearScan(roster, query), index.search(query), "query: " + query);
+        }
+    }
+
+    private static List<Employee> linearScan(List<Employee> roster, String query) {
+        String needle = NameSearchIndex.normalize(query);
+        return roster.stream()
+                .filter(e -> NameSearchIndex.normalize(e.employee_name()).contains(needle))
+                .toList();
+    }
+
+    private static List<Employee> randomRoster(Random random, int size) {
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            roster.add(employee(UUID.randomUUID().toString(), randomName(random)));
+        }
+        return roster;
+    }
+
+    private static String randomName(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::id).toList();
+    }
+
+    private static Employee employee(String id, String name) {
+        return new Employee(id, name, 100, 30, "Developer", "e@example.com");
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterSnapshotTest {
+
+    private static final Employee EMPLOYEE_A =
+            new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com");
+    private static final Employee EMPLOYEE_B =
+            new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com");
+    private static final Employee NAMESAKE_OF_A =
+            new Employee("30000000-0000-0000-0000-000000000000", "EMPLOYEE_a", 300, 35, "Developer", "c@example.com");
+
+    @Test
+    void hasOtherEmployeeNamed_comparesNamesIgnoringCaseAndSkipsTheEmployeeItself() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(EMPLOYEE_A, EMPLOYEE_B), 0);
+
+        assertFalse(snapshot.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+        assertTrue(snapshot.hasOtherEmployeeNamed("employee_a", NAMESAKE_OF_A.id()));
+        assertFalse(snapshot.hasOtherEmployeeNamed("Nobody", EMPLOYEE_A.id()));
+    }
+
+    @Test
+    void hasOtherEmployeeNamed_followsWritesThrough() {
+        // Arrange
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(EMPLOYEE_A, EMPLOYEE_B), 0);
+        assertFalse(snapshot.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+
+        // Act
+        RosterSnapshot withNamesake = snapshot.withEmployee(2, NAMESAKE_OF_A);
+        RosterSnapshot withoutNamesake = withNamesake.withoutEmployee(3, NAMESAKE_OF_A.id());
+        RosterSnapshot batched = withoutNamesake.withChanges(4, List.of(NAMESAKE_OF_A), List.of(EMPLOYEE_B.id()));
+
+        // Assert
+        assertFalse(snapshot.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+        assertTrue(withNamesake.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+        assertFalse(withoutNamesake.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+        assertTrue(batched.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+        assertFalse(batched.hasOtherEmployeeNamed("Employee_B", NAMESAKE_OF_A.id()));
+    }
+
+    @Test
+    void hasOtherEmployeeNamed_staysCorrectOncePendingNamesAreFolded() {
+        // Arrange
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(EMPLOYEE_A, EMPLOYEE_B), 0);
+        assertFalse(snapshot.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+
+        // Act
+        RosterSnapshot written = snapshot.withEmployee(2, NAMESAKE_OF_A).withoutEmployee(3, EMPLOYEE_B.id());
+        for (int i = 0; i < 1100; i++) {
+            String id = "%08d-0000-0000-0000-000000000000".formatted(40_000_000 + i);
+            written = written.withEmployee(4 + i, new Employee(id, "Employee_" + i, 100, 25, "Developer", "e@example.com"));
+        }
+
+        // Assert
+        assertTrue(written.hasOtherEmployeeNamed("Employee_A", EMPLOYEE_A.id()));
+        assertFalse(written.hasOtherEmployeeNamed("Employee_B", NAMESAKE_OF_A.id()));
+        assertFalse(written.hasOtherEmployeeNamed("Employee_1099", "40001099-0000-0000-0000-000000000000"));
+        assertTrue(written.hasOtherEmployeeNamed("employee_1099", EMPLOYEE_A.id()));
+        assertEquals(1102, written.employees().size());
+    }
+}
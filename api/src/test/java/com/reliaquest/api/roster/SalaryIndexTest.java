@@ -0,0 +1,72 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryIndexTest {
+
+    @Test
+    void build_ordersBySalaryDescendingKeepingRosterOrderForTies() {
+        List<Employee> roster = List.of(
+                employee("A", 100),
+                employee("B", 300),
+                employee("C", 200),
+                employee("D", 300)
+        );
+
+        SalaryIndex index = SalaryIndex.build(roster);
+
+        assertEquals(300, index.highestSalary());
+        assertEquals(List.of("B", "D", "C", "A"), index.topEarnerNames(10));
+        assertEquals(List.of("B", "D"), index.topEarnerNames(2));
+    }
+
+    @Test
+    void build_onEmptyRoster_reportsZero() {
+        SalaryIndex index = SalaryIndex.build(List.of());
+
+        assertEquals(0, index.highestSalary());
+        assertTrue(index.topEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    void with_andWithout_matchFullRebuild() {
+        Random random = new Random(42);
+        List<Employee> roster = IntStream.range(0, 200)
+                .mapToObj(i -> employee("E" + i, 1 + random.nextInt(50)))
+                .toList();
+        Employee added = employee("Added", 25);
+
+        SalaryIndex incremental = SalaryIndex.build(roster).with(added).without(roster.get(17));
+        List<Employee> expectedRoster = new ArrayList<>(roster);
+        expectedRoster.add(added);
+        expectedRoster.remove(17);
+
+        List<String> expected = expectedRoster.stream()
+                .sorted(Comparator.comparingInt(Employee::employee_salary).reversed())
+                .map(Employee::employee_name)
+                .toList();
+        assertEquals(expected, incremental.topEarnerNames(expected.size()));
+        assertEquals(expectedRoster.size(), incremental.size());
+    }
+
+    @Test
+    void without_unknownEmployee_returnsSameIndex() {
+        SalaryIndex index = SalaryIndex.build(List.of(employee("A", 100)));
+
+        assertSame(index, index.without(employee("B", 100)));
+    }
+
+    private static Employee employee(String name, int salary) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, 30, "Developer", name + "@example.com");
+    }
+}
@@ -1,17 +1,28 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.RosterCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,7 +37,26 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService(employeeClient);
+        employeeService = newService(true);
+    }
+
+    private EmployeeService newService(boolean cacheEnabled) {
+        RosterCacheProperties cacheProperties =
+                new RosterCacheProperties(cacheEnabled, Duration.ofSeconds(30), Duration.ofMinutes(5));
+        EmployeeClientProperties clientProperties = new Binder(new MapConfigurationPropertySource())
+                .bindOrCreate("employee.client", EmployeeClientProperties.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new EmployeeService(employeeClient,
+                new EmployeeRosterCache(employeeClient, cacheProperties, clientProperties, meterRegistry, Runnable::run),
+                clientProperties, meterRegistry, Runnable::run);
+    }
+
+    private void streamEmployees(List<Employee> employees) {
+        when(employeeClient.forEachEmployee(any())).thenAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            employees.forEach(consumer);
+            return (long) employees.size();
+        });
     }
 
     @Test
@@ -69,6 +99,85 @@ class EmployeeServiceTest {
     }
 
 
+    @Test
+    void fetchAllEmployees_servesRepeatedReadsFromCache() {
+        // When
+        List<Employee> mockEmployees = List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com")
+        );
+        when(employeeClient.getEmployees()).thenReturn(mockEmployees);
+
+        // Act
+        employeeService.fetchAllEmployees();
+        employeeService.getHighestSalaryOfEmployees();
+        employeeService.getTop10HighestEarningEmployeeNames();
+
+        // Assert
+        verify(employeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void streamAllEmployees_withCache_emitsCachedRoster() {
+        // Arrange
+        List<Employee> mockEmployees = List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com")
+        );
+        when(employeeClient.getEmployees()).thenReturn(mockEmployees);
+        employeeService.fetchAllEmployees();
+        List<Employee> streamed = new ArrayList<>();
+
+        // Act
+        long count = employeeService.streamAllEmployees(streamed::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(mockEmployees, streamed);
+        verify(employeeClient, times(1)).getEmployees();
+        verify(employeeClient, never()).forEachEmployee(any());
+    }
+
+    @Test
+    void streamAllEmployees_withoutCache_passesThroughUpstreamStream() {
+        // Arrange
+        EmployeeService streamingService = newService(false);
+        List<Employee> mockEmployees = List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com")
+        );
+        streamEmployees(mockEmployees);
+        List<Employee> streamed = new ArrayList<>();
+
+        // Act
+        long count = streamingService.streamAllEmployees(streamed::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(mockEmployees, streamed);
+        verify(employeeClient, never()).getEmployees();
+    }
+
+    @Test
+    void createEmployee_isVisibleToSubsequentReadsWithoutRefetch() {
+        // When
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com")
+        ));
+        CreateEmployeeInput input = new CreateEmployeeInput("Employee_B", 200, 28, "Assistant");
+        Employee created = new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 28, "Assistant", "b@example.com");
+        when(employeeClient.createEmployee(input)).thenReturn(created);
+
+        // Act
+        employeeService.fetchAllEmployees();
+        employeeService.createEmployee(input);
+        List<Employee> result = employeeService.fetchAllEmployees();
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.contains(created));
+        verify(employeeClient, times(1)).getEmployees();
+    }
+
     @Test
     void fetchEmployeeById_returnsEmployee() {
         // When
@@ -104,6 +213,31 @@ class EmployeeServiceTest {
         verify(employeeClient, times(1)).getEmployeeById("10000000-0000-0000-0000-000000000000");
     }
 
+    @Test
+    void fetchEmployeeById_whenUpstreamUnavailable_servesEmployeeFromCachedRoster() {
+        // Arrange
+        Employee employee = new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com");
+        when(employeeClient.getEmployees()).thenReturn(List.of(employee));
+        when(employeeClient.getEmployeeById(employee.id()))
+                .thenThrow(new UpstreamUnavailableException("circuit open", Duration.ofSeconds(30)));
+        employeeService.fetchAllEmployees();
+
+        // Act
+        Employee result = employeeService.fetchEmployeeById(employee.id());
+
+        // Assert
+        assertEquals(employee, result);
+    }
+
+    @Test
+    void fetchEmployeeById_whenUpstreamUnavailableAndNothingCached_throwsException() {
+        when(employeeClient.getEmployeeById("10000000-0000-0000-0000-000000000000"))
+                .thenThrow(new UpstreamUnavailableException("circuit open", Duration.ofSeconds(30)));
+
+        assertThrows(UpstreamUnavailableException.class,
+                () -> employeeService.fetchEmployeeById("10000000-0000-0000-0000-000000000000"));
+    }
+
     @Test
     void searchEmployeesByNameSearch_returnsMatchingEmployees() {
         // When
@@ -173,6 +307,60 @@ class EmployeeServiceTest {
         assertEquals(400, result);
     }
 
+    @Test
+    void getHighestSalaryOfEmployees_withoutCache_streamsRosterInsteadOfMaterialisingIt() {
+        // Arrange
+        EmployeeService streamingService = newService(false);
+        streamEmployees(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee TestA", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee TestB", 400, 30, "Manager", "b@example.com")
+        ));
+
+        // Act
+        Integer result = streamingService.getHighestSalaryOfEmployees();
+
+        // Assert
+        assertEquals(400, result);
+        verify(employeeClient, never()).getEmployees();
+    }
+
+    @Test
+    void getTopHighestEarningEmployeeNames_withoutCache_keepsBoundedTopInRosterOrderOnTies() {
+        // Arrange
+        EmployeeService streamingService = newService(false);
+        streamEmployees(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Low", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "TieFirst", 300, 30, "Manager", "b@example.com"),
+                new Employee("30000000-0000-0000-0000-000000000000", "Top", 500, 30, "Manager", "c@example.com"),
+                new Employee("40000000-0000-0000-0000-000000000000", "TieSecond", 300, 30, "Manager", "d@example.com"),
+                new Employee("50000000-0000-0000-0000-000000000000", "TieThird", 300, 30, "Manager", "e@example.com")
+        ));
+
+        // Act
+        List<String> result = streamingService.getTopHighestEarningEmployeeNames(3);
+
+        // Assert
+        assertEquals(List.of("Top", "TieFirst", "TieSecond"), result);
+        verify(employeeClient, never()).getEmployees();
+    }
+
+    @Test
+    void searchEmployeesByNameSearch_withoutCache_filtersStreamedRoster() {
+        // Arrange
+        EmployeeService streamingService = newService(false);
+        streamEmployees(List.of(
+                new Employee("10000000-0000-0000-0000-000000000000", "Employee TestA", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Other Person", 400, 30, "Manager", "b@example.com")
+        ));
+
+        // Act
+        List<Employee> result = streamingService.searchEmployeesByNameSearch("testa");
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Employee TestA", result.get(0).employee_name());
+    }
+
     @Test
     void getHighestSalaryOfEmployees_whenClientThrowsException_throwsException() {
         // When
@@ -254,6 +442,7 @@ class EmployeeServiceTest {
         assertEquals("Employee_name", result);
         verify(employeeClient, times(1)).getEmployeeById(employeeId);
         verify(employeeClient, times(1)).deleteEmployeeByName(new DeleteEmployeeInput("Employee_name"));
+        verify(employeeClient, never()).getEmployees();
     }
 
     @Test
@@ -282,4 +471,191 @@ class EmployeeServiceTest {
         verify(employeeClient, times(1)).getEmployeeById(employeeId);
         verify(employeeClient, times(1)).deleteEmployeeByName(new DeleteEmployeeInput("Employee_name"));
     }
+
+    @Test
+    void deleteEmployeeById_whenIdSeenInRoster_deletesWithoutLookup() {
+        // When
+        String employeeId = "10000000-0000-0000-0000-000000000000";
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee(employeeId, "Employee_name", 1000, 25, "Developer", "example@example.com")));
+        when(employeeClient.deleteEmployeeByName(new DeleteEmployeeInput("Employee_name"))).thenReturn(true);
+        employeeService.fetchAllEmployees();
+
+        // Act
+        String result = employeeService.deleteEmployeeById(employeeId);
+
+        // Assert
+        assertEquals("Employee_name", result);
+        verify(employeeClient, never()).getEmployeeById(any());
+        verify(employeeClient, times(1)).deleteEmployeeByName(new DeleteEmployeeInput("Employee_name"));
+    }
+
+    @Test
+    void deleteEmployeeById_whenNameSharedWithAnotherEmployee_refusesWithConflict() {
+        // When
+        String employeeId = "10000000-0000-0000-0000-000000000000";
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_name", 900, 30, "Manager", "b@example.com"),
+                new Employee(employeeId, "EMPLOYEE_NAME", 1000, 25, "Developer", "example@example.com")));
+        employeeService.fetchAllEmployees();
+
+        // Act
+        ResponseStatusException ex =
+                assertThrows(ResponseStatusException.class, () -> employeeService.deleteEmployeeById(employeeId));
+
+        // Assert
+        assertEquals(409, ex.getStatusCode().value());
+        verify(employeeClient, never()).deleteEmployeeByName(any());
+    }
+
+    @Test
+    void deleteEmployeeById_whenDirectoryIsColdAndCachedRosterSharesName_refusesWithConflict() {
+        // When
+        String employeeId = "10000000-0000-0000-0000-000000000000";
+        Employee employee = new Employee(employeeId, "Employee_name", 1000, 25, "Developer", "example@example.com");
+        when(employeeClient.getEmployeeById(employeeId)).thenReturn(employee);
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee("20000000-0000-0000-0000-000000000000", "EMPLOYEE_NAME", 900, 30, "Manager", "b@example.com"),
+                employee));
+        employeeService.getHighestSalaryOfEmployees();
+
+        // Act
+        ResponseStatusException ex =
+                assertThrows(ResponseStatusException.class, () -> employeeService.deleteEmployeeById(employeeId));
+
+        // Assert
+        assertEquals(409, ex.getStatusCode().value());
+        verify(employeeClient, times(1)).getEmployeeById(employeeId);
+        verify(employeeClient, never()).deleteEmployeeByName(any());
+    }
+
+    @Test
+    void deleteEmployeeById_withoutCache_doesNotReadRosterForTheNameCheck() {
+        // When
+        employeeService = newService(false);
+        String employeeId = "10000000-0000-0000-0000-000000000000";
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee(employeeId, "Employee_name", 1000, 25, "Developer", "example@example.com")));
+        when(employeeClient.deleteEmployeeByName(new DeleteEmployeeInput("Employee_name"))).thenReturn(true);
+        employeeService.fetchAllEmployees();
+
+        // Act
+        String result = employeeService.deleteEmployeeById(employeeId);
+
+        // Assert
+        assertEquals("Employee_name", result);
+        verify(employeeClient, times(1)).getEmployees();
+        verify(employeeClient, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void createEmployees_rejectsInvalidInputsAndCreatesTheRestInOneCall() {
+        // When
+        CreateEmployeeInput valid = new CreateEmployeeInput("Employee_A", 1000, 25, "Developer");
+        CreateEmployeeInput tooYoung = new CreateEmployeeInput("Employee_B", 1000, 15, "Developer");
+        CreateEmployeeInput alsoValid = new CreateEmployeeInput("Employee_C", 2000, 30, "Manager");
+        Employee createdA = new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 1000, 25, "Developer", "a@example.com");
+        Employee createdC = new Employee("30000000-0000-0000-0000-000000000000", "Employee_C", 2000, 30, "Manager", "c@example.com");
+        when(employeeClient.createEmployees(List.of(valid, alsoValid)))
+                .thenReturn(List.of(BatchItemResult.applied(createdA), BatchItemResult.applied(createdC)));
+
+        // Act
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(List.of(valid, tooYoung, alsoValid));
+
+        // Assert
+        assertEquals(List.of(
+                BatchItemResult.applied(createdA),
+                BatchItemResult.rejected("Age must be at least 16"),
+                BatchItemResult.applied(createdC)), results);
+        verify(employeeClient, times(1)).createEmployees(any());
+        verify(employeeClient, never()).createEmployee(any());
+    }
+
+    @Test
+    void createEmployees_whenBatchCallFails_reportsItsItemsAsNotConfirmed() {
+        // When
+        CreateEmployeeInput input = new CreateEmployeeInput("Employee_A", 1000, 25, "Developer");
+        when(employeeClient.createEmployees(any())).thenThrow(new RuntimeException("Internal Server Error"));
+
+        // Act
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(List.of(input));
+
+        // Assert
+        assertEquals(1, results.size());
+        assertNull(results.get(0).data());
+        assertEquals("Not confirmed by the mock employee API (error)", results.get(0).error());
+    }
+
+    @Test
+    void deleteEmployeesById_looksUpNamesInOneRosterReadAndDeletesInOneCall() {
+        // When
+        String idA = "10000000-0000-0000-0000-000000000000";
+        String idB = "20000000-0000-0000-0000-000000000000";
+        String unknownId = "90000000-0000-0000-0000-000000000000";
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee(idA, "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee(idB, "Employee_B", 200, 30, "Manager", "b@example.com")));
+        when(employeeClient.deleteEmployeesByName(
+                List.of(new DeleteEmployeeInput("Employee_A"), new DeleteEmployeeInput("Employee_B"))))
+                .thenReturn(List.of(BatchItemResult.applied(true), BatchItemResult.applied(false)));
+
+        // Act
+        List<BatchItemResult<String>> results =
+                employeeService.deleteEmployeesById(List.of(idA, "not-a-uuid", unknownId, idB, idA));
+
+        // Assert
+        assertEquals(List.of(
+                BatchItemResult.applied("Employee_A"),
+                BatchItemResult.rejected("Invalid id"),
+                BatchItemResult.rejected("Employee not found"),
+                BatchItemResult.rejected("Employee not found"),
+                BatchItemResult.rejected("Duplicate id")), results);
+        verify(employeeClient, times(1)).getEmployees();
+        verify(employeeClient, never()).getEmployeeById(any());
+        verify(employeeClient, never()).deleteEmployeeByName(any());
+        assertEquals(List.of("Employee_B"),
+                employeeService.fetchAllEmployees().stream().map(Employee::employee_name).toList());
+    }
+
+    @Test
+    void deleteEmployeesById_whenAllNamesKnownAndNothingCached_doesNotReadRoster() {
+        // When
+        employeeService = newService(false);
+        String idA = "10000000-0000-0000-0000-000000000000";
+        String idB = "20000000-0000-0000-0000-000000000000";
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee(idA, "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee(idB, "Employee_B", 200, 30, "Manager", "b@example.com")));
+        when(employeeClient.deleteEmployeesByName(
+                List.of(new DeleteEmployeeInput("Employee_A"), new DeleteEmployeeInput("Employee_B"))))
+                .thenReturn(List.of(BatchItemResult.applied(true), BatchItemResult.applied(true)));
+        employeeService.fetchAllEmployees();
+
+        // Act
+        List<BatchItemResult<String>> results = employeeService.deleteEmployeesById(List.of(idA, idB));
+
+        // Assert
+        assertEquals(List.of(BatchItemResult.applied("Employee_A"), BatchItemResult.applied("Employee_B")), results);
+        verify(employeeClient, times(1)).getEmployees();
+    }
+
+    @Test
+    void deleteEmployeesById_withUpperCaseId_removesEmployeeFromCachedRoster() {
+        // When
+        String idA = "abcdef00-0000-0000-0000-000000000000";
+        when(employeeClient.getEmployees()).thenReturn(List.of(
+                new Employee(idA, "Employee_A", 100, 25, "Developer", "a@example.com"),
+                new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com")));
+        when(employeeClient.deleteEmployeesByName(List.of(new DeleteEmployeeInput("Employee_A"))))
+                .thenReturn(List.of(BatchItemResult.applied(true)));
+
+        // Act
+        List<BatchItemResult<String>> results = employeeService.deleteEmployeesById(List.of(idA.toUpperCase()));
+
+        // Assert
+        assertEquals(List.of(BatchItemResult.applied("Employee_A")), results);
+        assertEquals(List.of("Employee_B"),
+                employeeService.fetchAllEmployees().stream().map(Employee::employee_name).toList());
+        verify(employeeClient, times(1)).getEmployees();
+    }
 }
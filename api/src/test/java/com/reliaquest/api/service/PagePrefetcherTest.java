@@ -0,0 +1,90 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagePrefetcherTest {
+
+    private static final EmployeePage FIRST_PAGE = new EmployeePage(List.of(
+            new Employee("10000000-0000-0000-0000-000000000000", "Employee_A", 100, 25, "Developer", "a@example.com")),
+            "10000000-0000-0000-0000-000000000000");
+    private static final EmployeePage SECOND_PAGE = new EmployeePage(List.of(
+            new Employee("20000000-0000-0000-0000-000000000000", "Employee_B", 200, 30, "Manager", "b@example.com")),
+            null);
+
+    private final List<String> loadedCursors = new ArrayList<>();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PagePrefetcher prefetcher = new PagePrefetcher(
+            (cursor, limit) -> {
+                loadedCursors.add(cursor);
+                return cursor == null ? FIRST_PAGE : SECOND_PAGE;
+            },
+            scheduled::add, now::get, meterRegistry);
+
+    @Test
+    void get_afterPrefetch_servesPrefetchedPageOnce() {
+        // Arrange
+        prefetcher.prefetch(FIRST_PAGE.next_cursor(), 1);
+        prefetcher.prefetch(FIRST_PAGE.next_cursor(), 1);
+        scheduled.forEach(Runnable::run);
+
+        // Act
+        EmployeePage prefetched = prefetcher.get(FIRST_PAGE.next_cursor(), 1);
+        EmployeePage reloaded = prefetcher.get(FIRST_PAGE.next_cursor(), 1);
+
+        // Assert
+        assertSame(SECOND_PAGE, prefetched);
+        assertSame(SECOND_PAGE, reloaded);
+        assertEquals(1, scheduled.size(), "a page should be prefetched only once");
+        assertEquals(2, loadedCursors.size());
+        assertEquals(1, lookups("hit"));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    void get_withDifferentLimitOrExpiredPrefetch_loadsPage() {
+        // Arrange
+        prefetcher.prefetch(FIRST_PAGE.next_cursor(), 1);
+        scheduled.forEach(Runnable::run);
+
+        // Act
+        prefetcher.get(FIRST_PAGE.next_cursor(), 2);
+        now.addAndGet(PagePrefetcher.MAX_AGE.toNanos());
+        prefetcher.get(FIRST_PAGE.next_cursor(), 1);
+
+        // Assert
+        assertEquals(0, lookups("hit"));
+        assertEquals(2, lookups("miss"));
+        assertEquals(3, loadedCursors.size());
+    }
+
+    @Test
+    void prefetch_whenFull_evictsExpiredPagesOrSkips() {
+        // Arrange
+        for (int i = 0; i < PagePrefetcher.MAX_PENDING; i++) {
+            prefetcher.prefetch("cursor-" + i, 1);
+        }
+
+        // Act
+        prefetcher.prefetch("skipped", 1);
+        now.addAndGet(PagePrefetcher.MAX_AGE.toNanos());
+        prefetcher.prefetch("accepted", 1);
+
+        // Assert
+        assertEquals(PagePrefetcher.MAX_PENDING + 1, scheduled.size());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("employee.page.prefetch").tag("result", result).counter().count();
+    }
+}
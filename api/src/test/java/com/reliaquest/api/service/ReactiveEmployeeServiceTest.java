@@ -0,0 +1,97 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ReactiveEmployeeClient;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEmployeeServiceTest {
+
+    private static final List<Employee> EMPLOYEES = List.of(
+            new Employee("10000000-0000-0000-0000-000000000000", "Employee TestA", 50000, 25, "Developer", "a@example.com"),
+            new Employee("20000000-0000-0000-0000-000000000000", "Employee TestB", 60000, 30, "Manager", "b@example.com"),
+            new Employee("30000000-0000-0000-0000-000000000000", "Other Person", 55000, 28, "Designer", "c@example.com")
+    );
+
+    @Mock
+    private ReactiveEmployeeClient employeeClient;
+
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = new ReactiveEmployeeService(employeeClient);
+    }
+
+    @Test
+    void searchEmployeesByNameSearch_returnsMatchingEmployees() {
+        when(employeeClient.getEmployees()).thenReturn(Flux.fromIterable(EMPLOYEES));
+
+        List<Employee> result = employeeService.searchEmployeesByNameSearch("employee").block();
+
+        assertEquals(EMPLOYEES.subList(0, 2), result);
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_returnsHighestSalary() {
+        when(employeeClient.getEmployees()).thenReturn(Flux.fromIterable(EMPLOYEES));
+
+        assertEquals(60000, employeeService.getHighestSalaryOfEmployees().block());
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_whenNoEmployees_returnsZero() {
+        when(employeeClient.getEmployees()).thenReturn(Flux.empty());
+
+        assertEquals(0, employeeService.getHighestSalaryOfEmployees().block());
+    }
+
+    @Test
+    void getTopHighestEarningEmployeeNames_returnsNamesInSalaryOrder() {
+        when(employeeClient.getEmployees()).thenReturn(Flux.fromIterable(EMPLOYEES));
+
+        assertEquals(List.of("Employee TestB", "Other Person", "Employee TestA"),
+                employeeService.getTopHighestEarningEmployeeNames(10).block());
+    }
+
+    @Test
+    void fetchEmployeeById_whenEmpty_throwsResponseStatusException() {
+        when(employeeClient.getEmployeeById("10000000-0000-0000-0000-000000000000")).thenReturn(Mono.empty());
+
+        assertThrows(ResponseStatusException.class,
+                () -> employeeService.fetchEmployeeById("10000000-0000-0000-0000-000000000000").block());
+    }
+
+    @Test
+    void deleteEmployeeById_returnsEmployeeName() {
+        Employee employee = EMPLOYEES.get(0);
+        when(employeeClient.getEmployeeById(employee.id())).thenReturn(Mono.just(employee));
+        when(employeeClient.deleteEmployeeByName(new DeleteEmployeeInput(employee.employee_name())))
+                .thenReturn(Mono.just(true));
+
+        assertEquals(employee.employee_name(), employeeService.deleteEmployeeById(employee.id()).block());
+    }
+
+    @Test
+    void deleteEmployeeById_whenNotDeleted_throwsException() {
+        Employee employee = EMPLOYEES.get(0);
+        when(employeeClient.getEmployeeById(employee.id())).thenReturn(Mono.just(employee));
+        when(employeeClient.deleteEmployeeByName(new DeleteEmployeeInput(employee.employee_name())))
+                .thenReturn(Mono.just(false));
+
+        assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById(employee.id()).block());
+    }
+}
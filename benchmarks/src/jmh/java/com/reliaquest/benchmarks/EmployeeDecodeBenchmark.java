@@ -0,0 +1,119 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Decoding the mock API's roster response into a {@code List<Employee>} ({@link EmployeeClient#getEmployees()}) vs.
+ * streaming it through {@link EmployeeClient#forEachEmployee} to compute the highest salary, against a local HTTP
+ * server that renders a 1M-employee payload. The server generates and writes employees one at a time, so its cost is
+ * the same for both variants and it holds no roster of its own.
+ * <p>
+ * Run with the GC profiler to compare allocation per operation ({@code gc.alloc.rate.norm}):
+ * {@code ./gradlew benchmarks:jmh -PjmhIncludes=EmployeeDecode -PjmhProfilers=gc}. Both paths allocate every
+ * {@link Employee} once; the difference is what stays reachable. The materialised path needs the whole roster live at
+ * once, while the streaming path only ever holds the record being read, so it also completes with a heap far smaller
+ * than the payload (e.g. {@code -PjmhJvmArgs=-Xmx128m}) where the materialised one runs out of memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class EmployeeDecodeBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    @Param({"1000000"})
+    int rosterSize;
+
+    private HttpServer server;
+    private EmployeeClient client;
+
+    @Setup(Level.Trial)
+    public void startMockServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                writeRoster(body);
+            }
+        });
+        server.start();
+
+        EmployeeClientProperties properties = new EmployeeClientProperties(
+                "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee",
+                EmployeeClientProperties.Mode.BLOCKING,
+                new EmployeeClientProperties.Pool(1, 1, Duration.ofSeconds(30), Duration.ofMinutes(5)),
+                new EmployeeClientProperties.Timeouts(
+                        Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(60), Duration.ofSeconds(60)),
+                false,
+                false,
+                false);
+        client = new EmployeeClient(new RestTemplate(), properties, new SimpleMeterRegistry());
+    }
+
+    private void writeRoster(OutputStream body) throws IOException {
+        SplittableRandom random = new SplittableRandom(42L);
+        try (JsonGenerator json = MAPPER.createGenerator(new BufferedOutputStream(body, 64 * 1024))) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("data");
+            for (int i = 0; i < rosterSize; i++) {
+                MAPPER.writeValue(json, Rosters.employee(random, i));
+            }
+            json.writeEndArray();
+            json.writeStringField("status", "Successfully processed request.");
+            json.writeEndObject();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopMockServer() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public int materialisedHighestSalary() {
+        int highest = 0;
+        for (Employee employee : client.getEmployees()) {
+            highest = Math.max(highest, employee.employee_salary());
+        }
+        return highest;
+    }
+
+    @Benchmark
+    public int streamedHighestSalary() {
+        int[] highest = {0};
+        client.forEachEmployee(employee -> highest[0] = Math.max(highest[0], employee.employee_salary()));
+        return highest[0];
+    }
+}
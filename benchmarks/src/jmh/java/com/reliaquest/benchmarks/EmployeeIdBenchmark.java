@@ -0,0 +1,97 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.roster.EmployeeIds;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Id validation and packing on the api request path: the former {@code UUID.fromString} inside try/catch against
+ * {@link EmployeeIds}, over a flood of valid ids and one of junk ids as a scanner would send. Compare
+ * {@code gc.alloc.rate.norm} with {@code -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeIdBenchmark {
+
+    private static final String[] JUNK = {
+        "invalid-uuid", "1", "../../etc/passwd", "wp-login.php", "%27%20OR%201=1--", "null", "undefined"
+    };
+
+    @Param({"valid", "invalid"})
+    private String flood;
+
+    private String[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new String[1024];
+        for (int i = 0; i < ids.length; i++) {
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            if (flood.equals("invalid")) {
+                // Half near misses with one bad character, which fail late, and half obvious junk.
+                id = i % 2 == 0 ? id.substring(0, 35) + 'z' : JUNK[i % JUNK.length];
+            }
+            ids[i] = id;
+        }
+    }
+
+    @Benchmark
+    public boolean validateWithUuidFromString() {
+        try {
+            UUID.fromString(nextId());
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean validateWithEmployeeIds() {
+        return EmployeeIds.isValid(nextId());
+    }
+
+    @Benchmark
+    public void packWithUuidFromString(Blackhole blackhole) {
+        try {
+            UUID uuid = UUID.fromString(nextId());
+            blackhole.consume(uuid.getMostSignificantBits());
+            blackhole.consume(uuid.getLeastSignificantBits());
+        } catch (IllegalArgumentException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public void packWithEmployeeIds(Blackhole blackhole) {
+        String id = nextId();
+        if (EmployeeIds.isValid(id)) {
+            blackhole.consume(EmployeeIds.highBits(id));
+            blackhole.consume(EmployeeIds.lowBits(id));
+        }
+    }
+
+    private String nextId() {
+        String id = ids[next];
+        next = (next + 1) & (ids.length - 1);
+        return id;
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.RosterCacheProperties;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmployeeService} read paths against an in-memory mock API, with the roster cache on (indexed snapshot) and
+ * off (single pass over the streamed roster per call). HTTP is left out; see {@link EmployeeDecodeBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private EmployeeService service;
+
+    @Setup
+    public void setUp() {
+        List<Employee> roster = Rosters.employees(rosterSize, 42L);
+        EmployeeClientProperties clientProperties = InMemoryEmployeeClient.properties();
+        EmployeeClient client = new InMemoryEmployeeClient(roster, clientProperties);
+        // A ttl longer than the run keeps every measured call on the same snapshot.
+        RosterCacheProperties cacheProperties =
+                new RosterCacheProperties(cacheEnabled, Duration.ofHours(1), Duration.ofHours(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new EmployeeService(
+                client,
+                new EmployeeRosterCache(client, cacheProperties, clientProperties, meterRegistry, Runnable::run),
+                clientProperties,
+                meterRegistry,
+                Runnable::run);
+        service.fetchAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return service.searchEmployeesByNameSearch("kelly 12");
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return service.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenHighestEarningNames() {
+        return service.getTop10HighestEarningEmployeeNames();
+    }
+}
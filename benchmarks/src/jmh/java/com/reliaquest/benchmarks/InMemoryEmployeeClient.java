@@ -0,0 +1,46 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link EmployeeClient} that serves a fixed roster from memory, for benchmarks that leave HTTP out.
+ */
+final class InMemoryEmployeeClient extends EmployeeClient {
+
+    private final List<Employee> roster;
+
+    InMemoryEmployeeClient(List<Employee> roster, EmployeeClientProperties properties) {
+        super(new RestTemplate(), properties, new SimpleMeterRegistry());
+        this.roster = roster;
+    }
+
+    static EmployeeClientProperties properties() {
+        return new EmployeeClientProperties(
+                "http://localhost:8112/api/v1/employee",
+                EmployeeClientProperties.Mode.BLOCKING,
+                new EmployeeClientProperties.Pool(1, 1, Duration.ofSeconds(30), Duration.ofMinutes(5)),
+                new EmployeeClientProperties.Timeouts(
+                        Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(10)),
+                true,
+                true,
+                false);
+    }
+
+    @Override
+    public List<Employee> getEmployees() {
+        return roster;
+    }
+
+    @Override
+    public long forEachEmployee(Consumer<? super Employee> consumer) {
+        roster.forEach(consumer);
+        return roster.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.config.MockEmployeeProperties;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.InMemoryMockEmployeeRepository;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Mock server delete throughput on 4 threads against a shared roster. Each thread deletes employees from its own slice
+ * and saves them again, so every delete hits; {@code deleteMissingById} floods the service with unknown ids, which are
+ * answered without taking the write lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class MockEmployeeDeleteBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rosterSize;
+
+    private MockEmployeeRepository repository;
+    private MockEmployeeService service;
+    private MockEmployee[] employees;
+
+    @Setup
+    public void setUp() {
+        MockEmployeeProperties properties = new MockEmployeeProperties(
+                rosterSize,
+                42L,
+                new MockEmployeeProperties.Salary(30_000, 500_000, MockEmployeeProperties.Distribution.UNIFORM),
+                new MockEmployeeProperties.Age(16, 70, MockEmployeeProperties.Distribution.UNIFORM),
+                Map.of());
+        List<MockEmployee> generated = new MockEmployeeGenerator(properties).generate();
+        employees = new MockEmployee[generated.size()];
+        for (int i = 0; i < employees.length; i++) {
+            MockEmployee employee = generated.get(i);
+            employees[i] = employee.toBuilder().name(employee.getName() + " " + i).build();
+        }
+        repository = new InMemoryMockEmployeeRepository();
+        repository.saveAll(List.of(employees));
+        service = new MockEmployeeService(
+                new Faker(), repository, new MockEmployeeChangeLog(10_000), MockEmployeeJournal.NONE);
+    }
+
+    @State(Scope.Thread)
+    public static class Slice {
+
+        private int from;
+        private int to;
+        private int next;
+
+        @Setup
+        public void setUp(MockEmployeeDeleteBenchmark benchmark, ThreadParams threads) {
+            int size = benchmark.employees.length / threads.getThreadCount();
+            from = threads.getThreadIndex() * size;
+            to = from + size;
+            next = from;
+        }
+
+        MockEmployee next(MockEmployee[] employees) {
+            MockEmployee employee = employees[next];
+            next = next + 1 == to ? from : next + 1;
+            return employee;
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> deleteByIdAndRecreate(Slice slice) {
+        MockEmployee employee = slice.next(employees);
+        Optional<MockEmployee> deleted = service.deleteById(employee.getId());
+        repository.save(employee);
+        return deleted;
+    }
+
+    @Benchmark
+    public boolean deleteByNameAndRecreate(Slice slice) {
+        MockEmployee employee = slice.next(employees);
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(employee.getName());
+        boolean deleted = service.delete(input);
+        repository.save(employee);
+        return deleted;
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> deleteMissingById() {
+        return service.deleteById(UUID.randomUUID());
+    }
+}
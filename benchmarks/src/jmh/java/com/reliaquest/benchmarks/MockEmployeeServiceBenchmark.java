@@ -0,0 +1,100 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.config.MockEmployeeProperties;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.InMemoryMockEmployeeRepository;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mock server lookups by id and deletes by id and by name. Names are made unique so each delete removes exactly the
+ * chosen employee, which is then saved again; the roster keeps its size and the pair measures one remove plus one
+ * insert. {@link MockEmployeeDeleteBenchmark} runs the deletes on several threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private MockEmployeeRepository repository;
+    private MockEmployeeService service;
+    private MockEmployee[] employees;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MockEmployeeProperties properties = new MockEmployeeProperties(
+                rosterSize,
+                42L,
+                new MockEmployeeProperties.Salary(30_000, 500_000, MockEmployeeProperties.Distribution.UNIFORM),
+                new MockEmployeeProperties.Age(16, 70, MockEmployeeProperties.Distribution.UNIFORM),
+                Map.of());
+        List<MockEmployee> generated = new MockEmployeeGenerator(properties).generate();
+        List<MockEmployee> roster = new ArrayList<>(generated.size());
+        for (int i = 0; i < generated.size(); i++) {
+            MockEmployee employee = generated.get(i);
+            roster.add(employee.toBuilder().name(employee.getName() + " " + i).build());
+        }
+        repository = new InMemoryMockEmployeeRepository();
+        repository.saveAll(roster);
+        service = new MockEmployeeService(
+                new Faker(), repository, new MockEmployeeChangeLog(10_000), MockEmployeeJournal.NONE);
+        employees = roster.toArray(new MockEmployee[0]);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(nextEmployee().getId());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> deleteByIdAndRecreate() {
+        MockEmployee employee = nextEmployee();
+        Optional<MockEmployee> deleted = service.deleteById(employee.getId());
+        repository.save(employee);
+        return deleted;
+    }
+
+    @Benchmark
+    public boolean deleteByNameAndRecreate() {
+        MockEmployee employee = nextEmployee();
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(employee.getName());
+        boolean deleted = service.delete(input);
+        repository.save(employee);
+        return deleted;
+    }
+
+    private MockEmployee nextEmployee() {
+        MockEmployee employee = employees[next];
+        next = next + 1 == employees.length ? 0 : next + 1;
+        return employee;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.config.MockEmployeeProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.InMemoryMockEmployeeRepository;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mock server startup cost of seeding the roster: generating {@code rosterSize} employees, and generating plus loading
+ * them into the repository as {@code ServerConfiguration} does. Single-shot, since startup runs once per JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MockRosterGenerationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rosterSize;
+
+    private MockEmployeeProperties properties;
+
+    @Setup
+    public void configure() {
+        properties = new MockEmployeeProperties(
+                rosterSize,
+                42L,
+                new MockEmployeeProperties.Salary(30_000, 500_000, MockEmployeeProperties.Distribution.LOG_NORMAL),
+                new MockEmployeeProperties.Age(16, 70, MockEmployeeProperties.Distribution.NORMAL),
+                Map.of());
+    }
+
+    @Benchmark
+    public List<MockEmployee> generate() {
+        return new MockEmployeeGenerator(properties).generate();
+    }
+
+    @Benchmark
+    public MockEmployeeRepository generateAndLoad() {
+        MockEmployeeRepository repository = new InMemoryMockEmployeeRepository();
+        repository.saveAll(new MockEmployeeGenerator(properties).generate());
+        return repository;
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.NameSearchIndex;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Name search latency: the original per-request lower-casing scan against the trigram index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    /** Selective, common-prefix and absent queries respectively. */
+    @Param({"kelly 12", "ana", "xyzzy"})
+    private String query;
+
+    private List<Employee> roster;
+    private NameSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employees(rosterSize, 42L);
+        index = NameSearchIndex.build(roster);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return roster.stream()
+                .filter(e -> e.employee_name().toLowerCase().contains(query.toLowerCase()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return index.search(query);
+    }
+}
@@ -0,0 +1,161 @@
+package com.reliaquest.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeClientProperties;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.logging.RequestLogProperties;
+import com.reliaquest.api.logging.RequestLogSampler;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.EmployeeRosterCache;
+import com.reliaquest.api.roster.RosterCacheProperties;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Request throughput of {@link EmployeeController} over a cached roster, with the request log line the
+ * {@link com.reliaquest.api.logging.SampledRequestLogFilter} would write, under three logging volumes:
+ * <ul>
+ *     <li>{@code off}: {@code com.reliaquest} at WARN, nothing is logged</li>
+ *     <li>{@code sampled}: INFO, the default; one request line in 100 per endpoint</li>
+ *     <li>{@code perRequest}: DEBUG, which restores the controller, service and client lines every request used to
+ *     log at INFO</li>
+ * </ul>
+ * Each runs against a file appender, either synchronously or behind the bounded, non-blocking
+ * {@link AsyncAppender} the application uses. With {@code async} and a full queue, events are dropped rather than
+ * written, so compare it with {@code sync} for the cost on request threads, not for how much reaches the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    @Param({"off", "sampled", "perRequest"})
+    private String logging;
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    private EmployeeController controller;
+    private RequestLogSampler sampler;
+    private Logger applicationLogger;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("employee-api", ".log");
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        applicationLogger = context.getLogger("com.reliaquest");
+        applicationLogger.setAdditive(false);
+        applicationLogger.setLevel(
+                switch (logging) {
+                    case "off" -> Level.WARN;
+                    case "sampled" -> Level.INFO;
+                    default -> Level.DEBUG;
+                });
+        applicationLogger.addAppender(appender(context));
+
+        List<Employee> roster = Rosters.employees(1_000, 42L);
+        EmployeeClientProperties clientProperties = InMemoryEmployeeClient.properties();
+        EmployeeClient client = new InMemoryEmployeeClient(roster, clientProperties);
+        RosterCacheProperties cacheProperties =
+                new RosterCacheProperties(true, Duration.ofHours(1), Duration.ofHours(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeService service = new EmployeeService(
+                client,
+                new EmployeeRosterCache(client, cacheProperties, clientProperties, meterRegistry, Runnable::run),
+                clientProperties,
+                meterRegistry,
+                Runnable::run);
+        service.fetchAllEmployees();
+        controller = new EmployeeController(service, new ObjectMapper());
+        sampler = new RequestLogSampler(new RequestLogProperties(true, 100, Duration.ofSeconds(1)));
+    }
+
+    private Appender<ILoggingEvent> appender(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+        if (!"async".equals(appender)) {
+            return file;
+        }
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(file);
+        async.start();
+        return async;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        applicationLogger.detachAndStopAllAppenders();
+        applicationLogger.setLevel(null);
+        applicationLogger.setAdditive(true);
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public ResponseEntity<Integer> highestSalary() {
+        long started = System.nanoTime();
+        ResponseEntity<Integer> response = controller.getHighestSalaryOfEmployees();
+        sampler.completed("GET /employees/highestSalary", "/employees/highestSalary", 200, System.nanoTime() - started);
+        return response;
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Employee>> searchByName() {
+        long started = System.nanoTime();
+        ResponseEntity<List<Employee>> response = controller.getEmployeesByNameSearch("kelly 12");
+        sampler.completed(
+                "GET /employees/search/{searchString}",
+                "/employees/search/kelly%2012",
+                200,
+                System.nanoTime() - started);
+        return response;
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.ColumnarRoster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Salary aggregations over a {@code List<Employee>} against the same roster held as a {@link ColumnarRoster}.
+ * <p>
+ * Setup also prints the retained heap of both representations, measured with JOL. Employees are given their own
+ * title strings, as they would be after JSON decoding, so the object roster is not flattered by shared literals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterLayoutBenchmark {
+
+    private static final int TOP_N = 10;
+
+    @Param({"100000", "1000000"})
+    private int rosterSize;
+
+    private List<Employee> objects;
+    private ColumnarRoster columnar;
+
+    @Setup
+    public void setUp() {
+        objects = new ArrayList<>(rosterSize);
+        for (Employee employee : Rosters.employees(rosterSize, 42L)) {
+            objects.add(new Employee(
+                    employee.id(),
+                    employee.employee_name(),
+                    employee.employee_salary(),
+                    employee.employee_age(),
+                    new String(employee.employee_title()),
+                    employee.employee_email()));
+        }
+        columnar = ColumnarRoster.of(objects);
+
+        long objectBytes = GraphLayout.parseInstance(objects).totalSize();
+        long columnarBytes = GraphLayout.parseInstance(columnar).totalSize();
+        System.out.printf(
+                "%nFootprint of %,d employees: List<Employee> %,d bytes (%d per employee), ColumnarRoster %,d bytes "
+                        + "(%d per employee)%n",
+                rosterSize, objectBytes, objectBytes / rosterSize, columnarBytes, columnarBytes / rosterSize);
+    }
+
+    @Benchmark
+    public int objectsHighestSalary() {
+        int highest = 0;
+        for (Employee employee : objects) {
+            if (employee.employee_salary() > highest) {
+                highest = employee.employee_salary();
+            }
+        }
+        return highest;
+    }
+
+    @Benchmark
+    public int columnarHighestSalary() {
+        return columnar.highestSalary();
+    }
+
+    /** Same bounded insertion as {@link ColumnarRoster#topEarnerRows(int)}, reading salaries through the objects. */
+    @Benchmark
+    public int[] objectsTopEarners() {
+        int limit = Math.min(TOP_N, objects.size());
+        int[] rows = new int[limit];
+        int[] best = new int[limit];
+        int filled = 0;
+        for (int row = 0; row < objects.size(); row++) {
+            int salary = objects.get(row).employee_salary();
+            if (filled == limit && salary <= best[limit - 1]) {
+                continue;
+            }
+            int position = filled < limit ? filled++ : limit - 1;
+            while (position > 0 && best[position - 1] < salary) {
+                best[position] = best[position - 1];
+                rows[position] = rows[position - 1];
+                position--;
+            }
+            best[position] = salary;
+            rows[position] = row;
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public int[] columnarTopEarners() {
+        return columnar.topEarnerRows(TOP_N);
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.config.MockEmployeeProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.PersistentRosterStore;
+import com.reliaquest.server.repository.InMemoryMockEmployeeRepository;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mock server restart cost with {@code mock.persistence.enabled}: recovering {@code rosterSize} employees from a
+ * snapshot plus a write-ahead log of {@code loggedWrites} creates, and recovering plus loading them into the
+ * repository as {@code ServerConfiguration} does. Compare with {@link MockRosterGenerationBenchmark}, which generates
+ * the roster instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RosterRecoveryBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rosterSize;
+
+    @Param({"10000"})
+    int loggedWrites;
+
+    private Path directory;
+
+    @Setup
+    public void persist() throws IOException {
+        directory = Files.createTempDirectory("roster-recovery");
+        final List<MockEmployee> roster = new ArrayList<>(new MockEmployeeGenerator(new MockEmployeeProperties(
+                        rosterSize,
+                        42L,
+                        new MockEmployeeProperties.Salary(
+                                30_000, 500_000, MockEmployeeProperties.Distribution.LOG_NORMAL),
+                        new MockEmployeeProperties.Age(16, 70, MockEmployeeProperties.Distribution.NORMAL),
+                        Map.of()))
+                .generate());
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, Integer.MAX_VALUE, false)) {
+            store.open(() -> List.copyOf(roster));
+            for (int i = 0; i < loggedWrites; i++) {
+                final MockEmployee template = roster.get(i % rosterSize);
+                final MockEmployee created = MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name(template.getName())
+                        .salary(template.getSalary())
+                        .age(template.getAge())
+                        .title(template.getTitle())
+                        .email(template.getEmail())
+                        .build();
+                store.created(created);
+                roster.add(created);
+            }
+        }
+    }
+
+    @TearDown
+    public void delete() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<MockEmployee> recover() throws IOException {
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, Integer.MAX_VALUE, false)) {
+            return store.recover().orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public MockEmployeeRepository recoverAndLoad() throws IOException {
+        MockEmployeeRepository repository = new InMemoryMockEmployeeRepository();
+        repository.saveAll(recover());
+        return repository;
+    }
+}
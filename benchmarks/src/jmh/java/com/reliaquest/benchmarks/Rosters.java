@@ -0,0 +1,52 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters so runs are comparable across commits.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Ana", "Jose", "Zoe", "Mia", "Bob", "Anabel", "Garrett", "Ashton", "Cedric", "Airi", "Brielle",
+        "Herrod", "Rhona", "Colleen", "Sonya", "Jena", "Quinn", "Charde", "Haley", "Tatyana", "Michael", "Paul"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Smith", "Muller", "Anderson", "O'Neil", "Winters", "Cox", "Kelly", "Satou", "Williamson",
+        "Chandler", "Davidson", "Hurst", "Frost", "Gaines", "Flynn", "Marshall", "Kennedy", "Fitzpatrick", "Silva"
+    };
+    private static final String[] TITLES = {
+        "Developer", "Manager", "Designer", "Accountant", "Support Lead", "Regional Director", "Software Engineer"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> employees(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(employee(random, i));
+        }
+        return employees;
+    }
+
+    /**
+     * The {@code i}-th employee of a roster; calling this for {@code 0..size-1} with one {@code random} yields the same
+     * employees as {@link #employees(int, long)} without holding them all.
+     */
+    static Employee employee(SplittableRandom random, int i) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new Employee(
+                new UUID(random.nextLong(), random.nextLong()).toString(),
+                first + " " + last + " " + i,
+                random.nextInt(30_000, 500_000),
+                random.nextInt(16, 70),
+                TITLES[random.nextInt(TITLES.length)],
+                first.toLowerCase() + i + "@company.com");
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.config.MockEmployeeProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson cost of the roster payload on both sides of the mock API: the server writing
+ * {@code Response<List<MockEmployee>>}, and the api reading and writing {@code ApiResponse<List<Employee>>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> API_RESPONSE = new TypeReference<>() {};
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Response<List<MockEmployee>> serverResponse;
+    private ApiResponse<List<Employee>> apiResponse;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        MockEmployeeProperties properties = new MockEmployeeProperties(
+                rosterSize,
+                42L,
+                new MockEmployeeProperties.Salary(30_000, 500_000, MockEmployeeProperties.Distribution.UNIFORM),
+                new MockEmployeeProperties.Age(16, 70, MockEmployeeProperties.Distribution.UNIFORM),
+                Map.of());
+        serverResponse = Response.handledWith(new MockEmployeeGenerator(properties).generate());
+        payload = objectMapper.writeValueAsBytes(serverResponse);
+        apiResponse = objectMapper.readValue(payload, API_RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] serverSerializeRoster() throws IOException {
+        return objectMapper.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> apiDeserializeRoster() throws IOException {
+        return objectMapper.readValue(payload, API_RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] apiSerializeRoster() throws IOException {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+}
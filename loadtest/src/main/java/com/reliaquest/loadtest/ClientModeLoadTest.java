@@ -0,0 +1,170 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Drives one api endpoint with a fixed number of concurrent requests against a local, slow stub upstream and reports
+ * throughput, p50/p99 latency, the peak number of api-side threads and how many requests the api actually served at
+ * once. Run once per {@code employee.client.mode} / thread mode and compare:
+ *
+ * <pre>
+ * ./gradlew loadtest:run --args='--mode=blocking --concurrency=400'
+ * ./gradlew loadtest:run --args='--mode=reactive --concurrency=400'
+ * ./gradlew loadtest:run -PjavaVersion=21 --args='--mode=blocking --threads=virtual --concurrency=400'
+ * </pre>
+ *
+ * The roster cache, request coalescing and the client-side rate limiter are disabled so every request reaches the
+ * upstream. Pass {@code --coalesce=true} to see how many upstream calls coalescing saves under the same load.
+ */
+public final class ClientModeLoadTest {
+
+    private ClientModeLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String mode = options.getOrDefault("mode", "blocking");
+        boolean virtualThreads = "virtual".equals(options.getOrDefault("threads", "platform"));
+        boolean coalesce = Boolean.parseBoolean(options.getOrDefault("coalesce", "false"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "5000"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int rosterSize = Integer.parseInt(options.getOrDefault("roster-size", "50"));
+        Duration upstreamLatency = Duration.ofMillis(Long.parseLong(options.getOrDefault("upstream-latency-ms", "100")));
+        String path = options.getOrDefault("path", "/employees/highestSalary");
+        int apiPort = Integer.parseInt(options.getOrDefault("api-port", "8111"));
+
+        try (StubEmployeeServer upstream = StubEmployeeServer.start(rosterSize, upstreamLatency);
+                ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                        .run(
+                                // The mock server's application.yml is on the classpath too; use neither.
+                                "--spring.config.name=loadtest",
+                                "--server.port=" + apiPort,
+                                "--employee.client.mode=" + mode,
+                                "--employee.client.base-url=" + upstream.baseUrl(),
+                                "--employee.cache.enabled=false",
+                                "--employee.client.coalesce-requests=" + coalesce,
+                                "--employee.client.resilience.enabled=false",
+                                "--spring.threads.virtual.enabled=" + virtualThreads,
+                                "--logging.level.com.reliaquest=WARN")) {
+            URI target = URI.create("http://localhost:" + apiPort + path);
+            int idleThreads = ThreadSampler.apiThreads();
+
+            run(target, Math.min(requests, 200), Math.min(concurrency, 50));
+            long upstreamBefore = upstream.requests();
+            upstream.resetMaxInFlight();
+
+            Result result;
+            try (ThreadSampler sampler = ThreadSampler.start(20)) {
+                result = run(target, requests, concurrency);
+                result = result.withPeakThreads(sampler.peak());
+            }
+
+            System.out.printf(
+                    "mode=%s threads=%s coalesce=%s path=%s requests=%d concurrency=%d upstreamLatency=%dms%n",
+                    mode,
+                    virtualThreads ? "virtual" : "platform",
+                    coalesce,
+                    path,
+                    requests,
+                    concurrency,
+                    upstreamLatency.toMillis());
+            System.out.printf(
+                    "throughput=%.1f req/s elapsed=%dms p50=%.1fms p99=%.1fms errors=%d%n",
+                    result.throughput(),
+                    result.elapsedMillis(),
+                    result.percentileMillis(50),
+                    result.percentileMillis(99),
+                    result.errors());
+            System.out.printf(
+                    "upstreamCalls=%d maxConcurrentRequests=%d apiThreads(idle)=%d apiThreads(peak)=%d%n",
+                    upstream.requests() - upstreamBefore,
+                    upstream.maxInFlight(),
+                    idleThreads,
+                    result.peakThreads());
+        }
+    }
+
+    private static Result run(URI target, int requests, int concurrency) throws InterruptedException {
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, ThreadSampler.LOAD_GENERATOR_PREFIX + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(target).GET().build();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicLong errors = new AtomicLong();
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int slot = i;
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                latencies[slot] = System.nanoTime() - sent;
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdownNow();
+        Arrays.sort(latencies);
+        return new Result(requests, elapsedNanos, errors.get(), latencies, 0);
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Result(int requests, long elapsedNanos, long errors, long[] sortedLatencies, int peakThreads) {
+
+        double throughput() {
+            return requests / (elapsedNanos / 1_000_000_000d);
+        }
+
+        long elapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000d;
+        }
+
+        Result withPeakThreads(int peak) {
+            return new Result(requests, elapsedNanos, errors, sortedLatencies, peak);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the real mock employee server and the api on local ports and drives the api's seven endpoints with an
+ * open-loop arrival rate, so the numbers include the mock server's random rate limiting and the api's cache,
+ * coalescing and resilience layers:
+ *
+ * <pre>
+ * ./gradlew loadtest:endToEnd --args='--rps=200 --duration-s=60'
+ * ./gradlew loadtest:endToEnd --args='--rps=200 --server-rate-limit=false --resilience=false'
+ * </pre>
+ *
+ * Requests are scheduled at fixed intervals of {@code 1/rps} whether or not earlier ones have completed, and each
+ * latency is measured from the request's scheduled send time rather than from when it was actually sent. A stall in
+ * the api therefore shows up in the percentiles of every request it delayed instead of being hidden by a load
+ * generator that waits for it (coordinated omission). Latencies are recorded into one HdrHistogram per endpoint;
+ * the warmup period is recorded and discarded.
+ */
+public final class EndToEndLoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private EndToEndLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = ClientModeLoadTest.parse(args);
+        double rps = Double.parseDouble(options.getOrDefault("rps", "100"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-s", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-s", "10")));
+        Endpoint.Mix mix = Endpoint.Mix.parse(options.getOrDefault("mix", Endpoint.DEFAULT_MIX));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        boolean serverRateLimit = Boolean.parseBoolean(options.getOrDefault("server-rate-limit", "true"));
+        boolean resilience = Boolean.parseBoolean(options.getOrDefault("resilience", "true"));
+        boolean cache = Boolean.parseBoolean(options.getOrDefault("cache", "true"));
+        boolean coalesce = Boolean.parseBoolean(options.getOrDefault("coalesce", "true"));
+        int rosterSize = Integer.parseInt(options.getOrDefault("roster-size", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int serverPort = Integer.parseInt(options.getOrDefault("server-port", "8112"));
+        int apiPort = Integer.parseInt(options.getOrDefault("api-port", "8111"));
+
+        UpstreamCallCounter upstreamCalls = new UpstreamCallCounter();
+        // spring.config.name points at a file that does not exist, so neither module's application.yml is picked up
+        // from the shared classpath and every setting the run depends on is passed explicitly.
+        try (ConfigurableApplicationContext server = new SpringApplicationBuilder(ServerApplication.class)
+                        .initializers(context -> context.getBeanFactory()
+                                .registerSingleton("upstreamCallCounter", upstreamCalls))
+                        .run(
+                                "--spring.config.name=loadtest",
+                                "--server.port=" + serverPort,
+                                "--server.compression.enabled=true",
+                                "--mock.employees.max=" + rosterSize,
+                                "--mock.employees.seed=" + seed,
+                                "--mock.rate-limit.enabled=" + serverRateLimit,
+                                "--logging.level.com.reliaquest=WARN");
+                ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                        .run(
+                                "--spring.config.name=loadtest",
+                                "--server.port=" + apiPort,
+                                "--employee.client.base-url=http://localhost:" + serverPort + "/api/v1/employee",
+                                "--employee.client.coalesce-requests=" + coalesce,
+                                "--employee.client.resilience.enabled=" + resilience,
+                                "--employee.cache.enabled=" + cache,
+                                "--logging.level.com.reliaquest=WARN")) {
+            Workload workload = Workload.prefetch(serverPort, "http://localhost:" + apiPort + "/employees");
+            upstreamCalls.drain();
+
+            System.out.printf(
+                    "rps=%.1f duration=%ds warmup=%ds mix=%s serverRateLimit=%s resilience=%s cache=%s coalesce=%s "
+                            + "rosterSize=%d%n",
+                    rps,
+                    duration.toSeconds(),
+                    warmup.toSeconds(),
+                    mix,
+                    serverRateLimit,
+                    resilience,
+                    cache,
+                    coalesce,
+                    rosterSize);
+
+            try (OpenLoopRun run = new OpenLoopRun(workload, mix, rps, maxInFlight, new SplittableRandom(seed))) {
+                run.drive(warmup);
+                run.awaitInFlight(Duration.ofSeconds(30));
+                run.reset();
+                upstreamCalls.drain();
+                long measuredFrom = System.nanoTime();
+                run.drive(duration);
+                double elapsedSeconds = (System.nanoTime() - measuredFrom) / 1_000_000_000d;
+                run.awaitInFlight(Duration.ofSeconds(30));
+                run.report(elapsedSeconds, upstreamCalls.drain());
+            }
+        }
+    }
+
+    /**
+     * Builds requests for each endpoint from ids and names read from the mock server up front, plus the ids of
+     * employees the run itself created, which the delete endpoint consumes.
+     */
+    private static final class Workload {
+
+        private final String apiBase;
+        private final List<String> ids;
+        private final List<String> names;
+        private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+        private final AtomicLong createdNames = new AtomicLong();
+
+        private Workload(String apiBase, List<String> ids, List<String> names) {
+            this.apiBase = apiBase;
+            this.ids = ids;
+            this.names = names;
+        }
+
+        static Workload prefetch(int serverPort, String apiBase) throws IOException, InterruptedException {
+            HttpClient client = HttpClient.newHttpClient();
+            URI roster = URI.create("http://localhost:" + serverPort + "/api/v1/employee");
+            // The mock server may be rate limiting; keep asking until it answers.
+            for (int attempt = 1; ; attempt++) {
+                HttpResponse<byte[]> response =
+                        client.send(HttpRequest.newBuilder(roster).build(), HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    List<String> ids = new ArrayList<>();
+                    List<String> names = new ArrayList<>();
+                    for (JsonNode employee : MAPPER.readTree(response.body()).path("data")) {
+                        ids.add(employee.path("id").asText());
+                        names.add(employee.path("employee_name").asText());
+                    }
+                    if (ids.isEmpty()) {
+                        throw new IllegalStateException("The mock server returned no employees");
+                    }
+                    return new Workload(apiBase, List.copyOf(ids), List.copyOf(names));
+                }
+                if (attempt == 100) {
+                    throw new IllegalStateException("Could not read the roster from the mock server: HTTP "
+                            + response.statusCode());
+                }
+                Thread.sleep(500);
+            }
+        }
+
+        HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+            return switch (endpoint) {
+                case GET_ALL -> get("");
+                case SEARCH -> get("/search/" + URLEncoder.encode(fragment(random), StandardCharsets.UTF_8)
+                        .replace("+", "%20"));
+                case GET_BY_ID -> get("/" + ids.get(random.nextInt(ids.size())));
+                case HIGHEST_SALARY -> get("/highestSalary");
+                case TOP_TEN -> get("/topTenHighestEarningEmployeeNames");
+                case CREATE -> create(random);
+                case DELETE -> {
+                    String id = createdIds.poll();
+                    // Nothing created yet to delete: create instead so the roster does not shrink below its seed.
+                    yield id != null
+                            ? HttpRequest.newBuilder(URI.create(apiBase + "/" + id))
+                                    .DELETE()
+                                    .build()
+                            : create(random);
+                }
+            };
+        }
+
+        /** Remembers the id of an employee created by the run so a later delete can remove it. */
+        void completed(HttpRequest request, HttpResponse<byte[]> response) {
+            if (!"POST".equals(request.method()) || response.statusCode() != 200) {
+                return;
+            }
+            try {
+                String id = MAPPER.readTree(response.body()).path("id").asText(null);
+                if (id != null) {
+                    createdIds.add(id);
+                }
+            } catch (IOException ex) {
+                // Counted as a success by the caller; the employee just won't be deleted by this run.
+            }
+        }
+
+        private String fragment(SplittableRandom random) {
+            String name = names.get(random.nextInt(names.size()));
+            int length = Math.min(name.length(), 3 + random.nextInt(3));
+            int from = random.nextInt(name.length() - length + 1);
+            return name.substring(from, from + length);
+        }
+
+        private HttpRequest create(SplittableRandom random) {
+            String body = "{\"name\":\"Loadtest " + createdNames.incrementAndGet() + "\",\"salary\":"
+                    + (30_000 + random.nextInt(470_000)) + ",\"age\":" + (16 + random.nextInt(60))
+                    + ",\"title\":\"Load Tester\"}";
+            return HttpRequest.newBuilder(URI.create(apiBase))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(apiBase + path))
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+        }
+    }
+
+    /**
+     * Single dispatcher thread that sends request {@code n} at {@code start + n / rps} and records its latency,
+     * measured from that scheduled time, per endpoint. Requests beyond {@code maxInFlight} are dropped and counted
+     * rather than queued, so a stalled api cannot make the generator run out of memory.
+     */
+    private static final class OpenLoopRun implements AutoCloseable {
+
+        private final Workload workload;
+        private final Endpoint.Mix mix;
+        private final long intervalNanos;
+        private final SplittableRandom random;
+        private final Semaphore inFlight;
+        private final int maxInFlight;
+        private final ExecutorService executor;
+        private final HttpClient client;
+        private final Map<Endpoint, Recorder> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+        private final LongAdder dropped = new LongAdder();
+
+        OpenLoopRun(Workload workload, Endpoint.Mix mix, double rps, int maxInFlight, SplittableRandom random) {
+            this.workload = workload;
+            this.mix = mix;
+            this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / rps));
+            this.random = random;
+            this.maxInFlight = maxInFlight;
+            this.inFlight = new Semaphore(maxInFlight);
+            AtomicInteger threadIds = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(4, runnable -> {
+                Thread thread = new Thread(runnable, ThreadSampler.LOAD_GENERATOR_PREFIX + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            for (Endpoint endpoint : Endpoint.values()) {
+                latencies.put(endpoint, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+                errors.put(endpoint, new LongAdder());
+            }
+        }
+
+        void drive(Duration period) {
+            long start = System.nanoTime();
+            long requests = period.toNanos() / intervalNanos;
+            for (long n = 0; n < requests; n++) {
+                long intended = start + n * intervalNanos;
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = mix.next(random);
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                HttpRequest request = workload.request(endpoint, random);
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .whenComplete((response, failure) -> {
+                            long latency = System.nanoTime() - intended;
+                            latencies.get(endpoint).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                            if (failure != null || response.statusCode() >= 400) {
+                                errors.get(endpoint).increment();
+                            } else {
+                                workload.completed(request, response);
+                            }
+                            inFlight.release();
+                        });
+            }
+        }
+
+        void awaitInFlight(Duration timeout) throws InterruptedException {
+            if (inFlight.tryAcquire(maxInFlight, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                inFlight.release(maxInFlight);
+            }
+        }
+
+        /** Discards everything recorded so far, e.g. at the end of the warmup. */
+        void reset() {
+            latencies.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+            dropped.reset();
+        }
+
+        void report(double elapsedSeconds, Map<String, Long> upstreamCalls) {
+            System.out.printf(
+                    "%-14s %9s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "error%", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            long totalErrors = 0;
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = latencies.get(endpoint).getIntervalHistogram();
+                long endpointErrors = errors.get(endpoint).sum();
+                if (histogram.getTotalCount() > 0) {
+                    printRow(endpoint.key(), histogram, endpointErrors);
+                }
+                total.add(histogram);
+                totalErrors += endpointErrors;
+            }
+            printRow("all", total, totalErrors);
+            System.out.printf(
+                    "achieved=%.1f req/s dropped=%d (max in flight %d)%n",
+                    total.getTotalCount() / elapsedSeconds,
+                    dropped.sum(),
+                    maxInFlight);
+            long upstreamTotal = upstreamCalls.entrySet().stream()
+                    .filter(entry -> !UpstreamCallCounter.RATE_LIMITED.equals(entry.getKey()))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            System.out.printf(
+                    "upstreamCalls=%d byMethod=%s rateLimited(429)=%d upstreamCallsPerRequest=%.3f%n",
+                    upstreamTotal,
+                    upstreamCalls.entrySet().stream()
+                            .filter(entry -> !UpstreamCallCounter.RATE_LIMITED.equals(entry.getKey()))
+                            .toList(),
+                    upstreamCalls.getOrDefault(UpstreamCallCounter.RATE_LIMITED, 0L),
+                    total.getTotalCount() > 0 ? (double) upstreamTotal / total.getTotalCount() : 0);
+        }
+
+        private static void printRow(String name, Histogram histogram, long errors) {
+            long count = histogram.getTotalCount();
+            System.out.printf(
+                    "%-14s %9d %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name,
+                    count,
+                    errors,
+                    count > 0 ? 100d * errors / count : 0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000d;
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+}
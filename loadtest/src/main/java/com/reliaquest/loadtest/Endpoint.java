@@ -0,0 +1,104 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The seven {@code IEmployeeController} endpoints, keyed by the short names used in {@code --mix}.
+ */
+enum Endpoint {
+    GET_ALL("getAll"),
+    SEARCH("search"),
+    GET_BY_ID("byId"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    /** Read-heavy default: lookups dominate, with a trickle of writes that keep the roster size stable. */
+    static final String DEFAULT_MIX = "getAll:1,search:2,byId:4,highestSalary:2,topTen:2,create:1,delete:1";
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown endpoint '" + key + "', expected one of " + Arrays.toString(keys())));
+    }
+
+    private static String[] keys() {
+        return Arrays.stream(values()).map(Endpoint::key).toArray(String[]::new);
+    }
+
+    /**
+     * Weighted choice between endpoints, parsed from {@code key:weight,...}; endpoints that are not listed get no
+     * traffic.
+     */
+    static final class Mix {
+
+        private final Endpoint[] endpoints;
+        private final double[] cumulativeWeights;
+
+        private Mix(Map<Endpoint, Double> weights) {
+            endpoints = weights.keySet().toArray(new Endpoint[0]);
+            cumulativeWeights = new double[endpoints.length];
+            double total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += weights.get(endpoints[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("The endpoint mix needs at least one positive weight");
+            }
+        }
+
+        static Mix parse(String spec) {
+            Map<Endpoint, Double> weights = new EnumMap<>(Endpoint.class);
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split(":");
+                double weight = parts.length > 1 ? Double.parseDouble(parts[1]) : 1;
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Negative weight for " + parts[0]);
+                }
+                weights.merge(fromKey(parts[0]), weight, Double::sum);
+            }
+            return new Mix(weights);
+        }
+
+        Endpoint next(SplittableRandom random) {
+            double draw = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (draw < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder description = new StringBuilder();
+            double previous = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                if (i > 0) {
+                    description.append(',');
+                }
+                description.append(endpoints[i].key).append(':').append(cumulativeWeights[i] - previous);
+                previous = cumulativeWeights[i];
+            }
+            return description.toString();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal stand-in for the mock employee API that answers {@code GET /api/v1/employee} with a fixed roster after an
+ * artificial delay. The delay models upstream I/O so the load test measures how the api service waits, not how fast
+ * the real mock server generates data. It is never rate limited.
+ */
+final class StubEmployeeServer implements AutoCloseable {
+
+    static final String THREAD_PREFIX = "stub-upstream-";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private StubEmployeeServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static StubEmployeeServer start(int rosterSize, Duration latency) throws IOException {
+        byte[] roster = rosterJson(rosterSize);
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        StubEmployeeServer stub = new StubEmployeeServer(server, executor);
+        server.createContext("/api/v1/employee", exchange -> stub.handle(exchange, roster, latency));
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    /**
+     * Highest number of upstream calls observed in flight at once since the last reset. Each api request makes one
+     * upstream call, so this is the number of requests the api service was actually serving concurrently.
+     */
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    void resetMaxInFlight() {
+        maxInFlight.set(inFlight.get());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, byte[] roster, Duration latency) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, roster.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(roster);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static byte[] rosterJson(int size) {
+        SplittableRandom random = new SplittableRandom(42L);
+        StringBuilder json = new StringBuilder(size * 200 + 64).append("{\"data\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"")
+                    .append(new UUID(random.nextLong(), random.nextLong()))
+                    .append("\",\"employee_name\":\"Employee ")
+                    .append(i)
+                    .append("\",\"employee_salary\":")
+                    .append(random.nextInt(30_000, 500_000))
+                    .append(",\"employee_age\":")
+                    .append(random.nextInt(16, 70))
+                    .append(",\"employee_title\":\"Developer\",\"employee_email\":\"employee")
+                    .append(i)
+                    .append("@company.com\"}");
+        }
+        json.append("],\"status\":\"Successfully processed request.\"}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
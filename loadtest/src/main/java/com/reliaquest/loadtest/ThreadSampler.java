@@ -0,0 +1,60 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically counts live threads that belong to the api service, i.e. excluding the stub upstream and the load
+ * generator, and remembers the peak.
+ */
+final class ThreadSampler implements AutoCloseable {
+
+    static final String LOAD_GENERATOR_PREFIX = "loadgen-";
+    private static final String JDK_HTTP_CLIENT_PREFIX = "HttpClient-";
+
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger peak = new AtomicInteger();
+
+    private ThreadSampler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    static ThreadSampler start(long intervalMillis) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, LOAD_GENERATOR_PREFIX + "sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadSampler sampler = new ThreadSampler(scheduler);
+        scheduler.scheduleAtFixedRate(sampler::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    int peak() {
+        return peak.get();
+    }
+
+    static int apiThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (!name.startsWith(StubEmployeeServer.THREAD_PREFIX)
+                    && !name.startsWith(LOAD_GENERATOR_PREFIX)
+                    && !name.startsWith(JDK_HTTP_CLIENT_PREFIX)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void sample() {
+        peak.accumulateAndGet(apiThreads(), Math::max);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter registered in the mock server that counts the calls it receives from the api, by HTTP method and by
+ * whether the mock server's rate limiter turned them away with {@code 429}.
+ */
+final class UpstreamCallCounter extends OncePerRequestFilter {
+
+    static final String RATE_LIMITED = "429";
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            increment(request.getMethod());
+            if (response.getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                increment(RATE_LIMITED);
+            }
+        }
+    }
+
+    /**
+     * @return counts since the last call, by method plus {@value #RATE_LIMITED}
+     */
+    Map<String, Long> drain() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((key, count) -> snapshot.put(key, count.sumThenReset()));
+        return snapshot;
+    }
+
+    private void increment(String key) {
+        counts.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+    }
+}
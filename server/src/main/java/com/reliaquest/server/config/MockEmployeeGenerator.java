@@ -0,0 +1,174 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import net.datafaker.Faker;
+
+/**
+ * Bulk generator for the mock roster. Datafaker is only used up front to fill small pools of names and job titles;
+ * employees are then assembled from those pools with plain constructor calls, so there is no reflection or Faker
+ * expression evaluation per record.
+ * <p>
+ * The roster is split into fixed-size chunks that are filled in parallel, each from its own {@link SplittableRandom}
+ * seeded from the generator seed. The output therefore only depends on the seed, the requested size and the default
+ * locale (which picks Datafaker's name and title data), not on how many threads did the work.
+ */
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 8_192;
+    private static final int NAME_POOL_SIZE = 1_000;
+    private static final int TITLE_POOL_SIZE = 200;
+    // EMAIL_TEMPLATE with an empty handle, appended directly since String.format per record is comparatively slow.
+    private static final String EMAIL_SUFFIX = ServerConfiguration.EMAIL_TEMPLATE.formatted("");
+
+    private final MockEmployeeProperties properties;
+
+    @Getter
+    private final long seed;
+
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] firstNameHandles;
+    private final String[] lastNameHandles;
+    private final String[] titles;
+    private final double[] cumulativeTitleWeights;
+
+    public MockEmployeeGenerator(MockEmployeeProperties properties) {
+        this.properties = properties;
+        this.seed = properties.seed() != null ? properties.seed() : RandomGenerator.getDefault().nextLong();
+
+        final var faker = new Faker(Locale.getDefault(), new Random(seed));
+        this.firstNames = pool(NAME_POOL_SIZE, () -> faker.name().firstName());
+        this.lastNames = pool(NAME_POOL_SIZE, () -> faker.name().lastName());
+        this.firstNameHandles = handles(firstNames);
+        this.lastNameHandles = handles(lastNames);
+
+        // Sorted so the title picked for a given random draw does not depend on map iteration order.
+        final var weights = new TreeMap<String, Double>(properties.titles());
+        if (weights.isEmpty()) {
+            for (String title : pool(TITLE_POOL_SIZE, () -> faker.job().title())) {
+                weights.merge(title, 1.0, Double::sum);
+            }
+        }
+        this.titles = new String[weights.size()];
+        this.cumulativeTitleWeights = new double[weights.size()];
+        double total = 0;
+        int i = 0;
+        for (Map.Entry<String, Double> weight : weights.entrySet()) {
+            if (weight.getValue() == null || weight.getValue() <= 0) {
+                throw new IllegalArgumentException(
+                        "Title weight must be positive: %s=%s".formatted(weight.getKey(), weight.getValue()));
+            }
+            total += weight.getValue();
+            titles[i] = weight.getKey();
+            cumulativeTitleWeights[i] = total;
+            i++;
+        }
+    }
+
+    /**
+     * @return {@code mock.employees.max} employees
+     */
+    public List<MockEmployee> generate() {
+        return generate(properties.max());
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var employees = new MockEmployee[count];
+        final int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var root = new SplittableRandom(seed);
+        final long[] chunkSeeds = new long[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkSeeds[chunk] = root.nextLong();
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final var random = new SplittableRandom(chunkSeeds[chunk]);
+            final int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int index = chunk * CHUNK_SIZE; index < end; index++) {
+                employees[index] = employee(index, random);
+            }
+        });
+        return Arrays.asList(employees);
+    }
+
+    private MockEmployee employee(int index, SplittableRandom random) {
+        final int first = random.nextInt(firstNames.length);
+        final int last = random.nextInt(lastNames.length);
+        return new MockEmployee(
+                randomUuid(random),
+                firstNames[first] + " " + lastNames[last],
+                sample(properties.salary(), random),
+                sample(properties.age(), random),
+                title(random),
+                firstNameHandles[first] + "." + lastNameHandles[last] + index + EMAIL_SUFFIX);
+    }
+
+    private String title(SplittableRandom random) {
+        final double draw = random.nextDouble() * cumulativeTitleWeights[cumulativeTitleWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeTitleWeights, draw);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return titles[Math.min(index, titles.length - 1)];
+    }
+
+    static int sample(MockEmployeeProperties.Range range, SplittableRandom random) {
+        final int min = range.min();
+        final int max = range.max();
+        return switch (range.distribution()) {
+            case UNIFORM -> (int) random.nextLong(min, (long) max + 1);
+            case NORMAL -> gaussianWithin(min, max, min, max, random, false);
+            case LOG_NORMAL -> gaussianWithin(min, max, Math.log(min), Math.log(max), random, true);
+        };
+    }
+
+    /**
+     * Draws from a normal distribution centred between {@code low} and {@code high} with six standard deviations
+     * across them, redrawing the rare values that fall outside {@code [min, max]}.
+     */
+    private static int gaussianWithin(
+            int min, int max, double low, double high, SplittableRandom random, boolean exponentiate) {
+        final double mean = (low + high) / 2;
+        final double standardDeviation = (high - low) / 6;
+        while (true) {
+            double value = mean + random.nextGaussian() * standardDeviation;
+            if (exponentiate) {
+                value = Math.exp(value);
+            }
+            final long rounded = Math.round(value);
+            if (rounded >= min && rounded <= max) {
+                return (int) rounded;
+            }
+        }
+    }
+
+    /**
+     * Version 4 UUID built from the chunk's random stream instead of {@link UUID#randomUUID()}, which would draw from
+     * a shared {@code SecureRandom} and break reproducibility.
+     */
+    private static UUID randomUuid(SplittableRandom random) {
+        final long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long leastSignificantBits = (random.nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static String[] pool(int size, Supplier<String> source) {
+        return IntStream.range(0, size).mapToObj(ignored -> source.get()).toArray(String[]::new);
+    }
+
+    private static String[] handles(String[] names) {
+        return Arrays.stream(names)
+                .map(name -> name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", ""))
+                .toArray(String[]::new);
+    }
+}
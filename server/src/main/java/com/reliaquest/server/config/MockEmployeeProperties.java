@@ -0,0 +1,80 @@
+package com.reliaquest.server.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Shape of the generated mock roster.
+ *
+ * @param max number of employees generated at startup
+ * @param seed makes the roster reproducible across restarts; a random seed is picked and logged when unset
+ * @param salary range and distribution of {@code employee_salary}
+ * @param age range and distribution of {@code employee_age}
+ * @param titles relative weight per title, e.g. {@code mock.employees.titles.[Software Engineer]=3}; when empty, titles
+ *               are drawn uniformly from a pool of Datafaker job titles
+ */
+@ConfigurationProperties(prefix = "mock.employees")
+public record MockEmployeeProperties(
+        @DefaultValue("20") int max,
+        Long seed,
+        @DefaultValue Salary salary,
+        @DefaultValue Age age,
+        Map<String, Double> titles) {
+
+    public MockEmployeeProperties {
+        titles = titles != null ? Map.copyOf(titles) : Map.of();
+    }
+
+    public enum Distribution {
+        /** Every value in the range is equally likely. */
+        UNIFORM,
+        /** Bell curve centred on the middle of the range, with the range spanning six standard deviations. */
+        NORMAL,
+        /** Right-skewed like real pay: normal in log space, so most values sit low and a long tail reaches max. */
+        LOG_NORMAL
+    }
+
+    /**
+     * Values are drawn from {@code min} to {@code max}, both inclusive, spread according to {@code distribution}.
+     */
+    public interface Range {
+
+        int min();
+
+        int max();
+
+        Distribution distribution();
+    }
+
+    public record Salary(
+            @DefaultValue("30000") int min,
+            @DefaultValue("500000") int max,
+            @DefaultValue("uniform") Distribution distribution)
+            implements Range {
+
+        public Salary {
+            validate(min, max, distribution);
+        }
+    }
+
+    public record Age(
+            @DefaultValue("16") int min,
+            @DefaultValue("70") int max,
+            @DefaultValue("uniform") Distribution distribution)
+            implements Range {
+
+        public Age {
+            validate(min, max, distribution);
+        }
+    }
+
+    private static void validate(int min, int max, Distribution distribution) {
+        if (min > max) {
+            throw new IllegalArgumentException("min %d is greater than max %d".formatted(min, max));
+        }
+        if (distribution == Distribution.LOG_NORMAL && min <= 0) {
+            throw new IllegalArgumentException("log-normal ranges need a positive min, got %d".formatted(min));
+        }
+    }
+}
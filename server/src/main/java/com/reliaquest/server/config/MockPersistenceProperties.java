@@ -0,0 +1,27 @@
+package com.reliaquest.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Optional on-disk roster, see {@link com.reliaquest.server.persistence.PersistentRosterStore}.
+ *
+ * @param enabled keep the roster across restarts instead of generating a new one every time
+ * @param directory where snapshots and write-ahead log segments are kept
+ * @param snapshotEvery writes after which the log is rolled over and a new snapshot is written in the background
+ * @param fsync whether every write is forced to the storage device before it is acknowledged; without it writes
+ *     survive a crash of the server but not of the machine
+ */
+@ConfigurationProperties(prefix = "mock.persistence")
+public record MockPersistenceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data") String directory,
+        @DefaultValue("100000") int snapshotEvery,
+        @DefaultValue("false") boolean fsync) {
+
+    public MockPersistenceProperties {
+        if (snapshotEvery <= 0) {
+            throw new IllegalArgumentException("snapshotEvery must be positive, got %d".formatted(snapshotEvery));
+        }
+    }
+}
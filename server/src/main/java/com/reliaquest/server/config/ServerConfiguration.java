@@ -1,19 +1,23 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.PersistentRosterStore;
+import com.reliaquest.server.repository.InMemoryMockEmployeeRepository;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeJournal;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +25,84 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({MockEmployeeProperties.class, MockPersistenceProperties.class})
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final boolean rateLimitEnabled;
+
+    /*
+     * mock.rate-limit.enabled=false turns off RandomRequestLimitInterceptor, e.g. to measure raw capacity under load.
+     */
+    public ServerConfiguration(@Value("${mock.rate-limit.enabled:true}") boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The repository is modifiable by design for CRUD operations. It starts out with the persisted roster when
+     * mock.persistence.enabled=true and one was saved before, and with freshly generated employees otherwise.
+     */
+    @Bean
+    public MockEmployeeRepository mockEmployeeRepository(
+            MockEmployeeProperties properties, ObjectProvider<PersistentRosterStore> persistentRosterStore) {
+        final long started = System.nanoTime();
+        final var repository = new InMemoryMockEmployeeRepository();
+        final PersistentRosterStore store = persistentRosterStore.getIfAvailable();
+        final Optional<List<MockEmployee>> recovered = store != null ? store.recover() : Optional.empty();
+        if (recovered.isPresent()) {
+            repository.saveAll(recovered.get());
+            log.info(
+                    "Loaded {} persisted mock employees in {} ms",
+                    repository.count(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } else {
+            final var generator = new MockEmployeeGenerator(properties);
+            repository.saveAll(generator.generate());
+            log.info(
+                    "Generated {} mock employees in {} ms (seed {})",
+                    repository.count(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis(),
+                    generator.getSeed());
+        }
+        if (store != null) {
+            store.open(repository::findAll);
+        }
+        return repository;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public PersistentRosterStore persistentRosterStore(MockPersistenceProperties properties) {
+        return new PersistentRosterStore(
+                Path.of(properties.directory()), properties.snapshotEvery(), properties.fsync());
+    }
+
+    @Bean
+    public MockEmployeeJournal mockEmployeeJournal(ObjectProvider<PersistentRosterStore> persistentRosterStore) {
+        final var store = persistentRosterStore.getIfAvailable();
+        return store != null ? store : MockEmployeeJournal.NONE;
+    }
+
+    /*
+     * Retains the last mock.changes.capacity writes; clients further behind than that reload the full roster.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeChangeLog mockEmployeeChangeLog(@Value("${mock.changes.capacity:10000}") int capacity) {
+        return new MockEmployeeChangeLog(capacity);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        if (!rateLimitEnabled) {
+            log.warn("Request rate limiting is disabled");
+            return;
+        }
         registry.addInterceptor(new RandomRequestLimitInterceptor());
     }
 }
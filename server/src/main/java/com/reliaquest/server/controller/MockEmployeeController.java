@@ -1,13 +1,20 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeRoster;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +24,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,18 +32,66 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String ROSTER_EPOCH_HEADER = "X-Roster-Epoch";
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 10_000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final Validator validator;
+
+    /*
+     * The ETag is the roster version, so a client holding the current roster gets a 304 without a body. The version
+     * headers let it follow up with /changes?since=<version> instead.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees() {
+        final MockEmployeeRoster roster = mockEmployeeService.getVersionedMockEmployees();
+        return ResponseEntity.ok()
+                .eTag(rosterETag(roster))
+                .header(ROSTER_EPOCH_HEADER, Long.toString(roster.epoch()))
+                .header(ROSTER_VERSION_HEADER, Long.toString(roster.version()))
+                .body(Response.handledWith(roster.employees()));
+    }
+
+    /*
+     * Keyset pagination ordered by id: the cursor is the id of the last employee of the previous page and is returned
+     * in X-Next-Cursor as long as more employees follow. Writes between pages never shift later pages, unlike offsets.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployeePage(
+            @RequestParam("limit") int limit, @RequestParam(name = "cursor", required = false) UUID cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and " + MAX_PAGE_SIZE + ", got " + limit));
+        }
+        final List<MockEmployee> employees = mockEmployeeService.getMockEmployeePage(cursor, limit + 1);
+        if (employees.size() <= limit) {
+            return ResponseEntity.ok(Response.handledWith(employees));
+        }
+        final List<MockEmployee> page = employees.subList(0, limit);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, page.get(limit - 1).getId().toString())
+                .body(Response.handledWith(page));
     }
 
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getChanges(@RequestParam("since") long since) {
+        return Response.handledWith(mockEmployeeService.changesSince(since));
+    }
+
+    /*
+     * Employees never change once created, so the ETag of one only has to tell server instances apart.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
                 .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(Long.toHexString(mockEmployeeService.getRosterEpoch()) + "-" + employee.getId())
+                        .body(Response.handledWith(employee)))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
@@ -48,4 +104,86 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /*
+     * Batch variants of the writes above. Each item is validated on its own and rejected with its own error, the
+     * rest are applied together under one write lock; results are in request order.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.isEmpty() || inputs.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(Response.error(batchSizeError(inputs.size())));
+        }
+        final List<String> errors = validate(inputs);
+        final List<MockEmployee> created = mockEmployeeService.createAll(accepted(inputs, errors));
+        return ResponseEntity.ok(Response.handledWith(results(errors, created.iterator())));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<Boolean>>>> deleteEmployees(
+            @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        if (inputs.isEmpty() || inputs.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(Response.error(batchSizeError(inputs.size())));
+        }
+        final List<String> errors = validate(inputs);
+        final List<Boolean> deleted = mockEmployeeService.deleteAll(accepted(inputs, errors));
+        return ResponseEntity.ok(Response.handledWith(results(errors, deleted.iterator())));
+    }
+
+    /**
+     * @return per input, the constraint violations as one message, or null when it is valid
+     */
+    private List<String> validate(List<?> inputs) {
+        final var errors = new ArrayList<String>(inputs.size());
+        for (Object input : inputs) {
+            if (input == null) {
+                errors.add("item must not be null");
+                continue;
+            }
+            final var violations = validator.validate(input);
+            errors.add(
+                    violations.isEmpty()
+                            ? null
+                            : violations.stream()
+                                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                    .sorted()
+                                    .collect(Collectors.joining(", ")));
+        }
+        return errors;
+    }
+
+    private static <T> List<T> accepted(List<T> inputs, List<String> errors) {
+        final var accepted = new ArrayList<T>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            if (errors.get(i) == null) {
+                accepted.add(inputs.get(i));
+            }
+        }
+        return accepted;
+    }
+
+    private static <T> List<BatchItemResult<T>> results(List<String> errors, Iterator<T> applied) {
+        final var results = new ArrayList<BatchItemResult<T>>(errors.size());
+        for (String error : errors) {
+            results.add(error == null ? BatchItemResult.applied(applied.next()) : BatchItemResult.rejected(error));
+        }
+        return results;
+    }
+
+    private static String batchSizeError(int size) {
+        return "batch must hold between 1 and " + MAX_BATCH_SIZE + " items, got " + size;
+    }
+
+    private static String rosterETag(MockEmployeeRoster roster) {
+        return Long.toHexString(roster.epoch()) + "-" + Long.toHexString(roster.version());
+    }
 }
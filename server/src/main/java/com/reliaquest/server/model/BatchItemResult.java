@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request, at the same position as the item: {@code data} when it was applied,
+ * {@code error} when it was rejected.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(T data, String error) {
+
+    public static <T> BatchItemResult<T> applied(T data) {
+        return new BatchItemResult<>(data, null);
+    }
+
+    public static <T> BatchItemResult<T> rejected(String error) {
+        return new BatchItemResult<>(null, error);
+    }
+}
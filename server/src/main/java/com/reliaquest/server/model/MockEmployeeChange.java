@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One write to the mock roster, numbered by the roster version it produced.
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("deleted")
+        DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Answer to a change feed request.
+ *
+ * @param epoch identifies the change log; it changes when the server restarts, and versions of different epochs are
+ *     unrelated
+ * @param version the roster version once {@code changes} are applied
+ * @param resync true when the requested changes are no longer retained (or never existed), in which case
+ *     {@code changes} is empty and the caller has to reload the full roster
+ * @param changes changes after the requested version, oldest first
+ */
+public record MockEmployeeChanges(long epoch, long version, boolean resync, List<MockEmployeeChange> changes) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The full roster together with the change log position it reflects: {@code employees} contains exactly the changes up
+ * to {@code version} of {@code epoch}.
+ */
+public record MockEmployeeRoster(long epoch, long version, List<MockEmployee> employees) {}
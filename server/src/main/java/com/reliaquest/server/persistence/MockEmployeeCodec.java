@@ -0,0 +1,83 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary layout of one employee, shared by snapshots and the write-ahead log. Numbers are big-endian. Strings are their
+ * UTF-8 length followed by the bytes, with length -1 for null. Salary and age follow a byte of presence flags.
+ * <p>
+ * The title is not part of the record: snapshots store a code into a title dictionary and log records the string.
+ */
+final class MockEmployeeCodec {
+
+    private static final int HAS_SALARY = 1;
+    private static final int HAS_AGE = 2;
+
+    private byte[] scratch = new byte[256];
+
+    static void writeEmployee(DataOutput out, MockEmployee mockEmployee) throws IOException {
+        writeId(out, mockEmployee.getId());
+        int flags = (mockEmployee.getSalary() != null ? HAS_SALARY : 0) | (mockEmployee.getAge() != null ? HAS_AGE : 0);
+        out.writeByte(flags);
+        out.writeInt(mockEmployee.getSalary() != null ? mockEmployee.getSalary() : 0);
+        out.writeInt(mockEmployee.getAge() != null ? mockEmployee.getAge() : 0);
+        writeString(out, mockEmployee.getName());
+        writeString(out, mockEmployee.getEmail());
+    }
+
+    static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    MockEmployee readEmployee(ByteBuffer in, String title) {
+        UUID id = readId(in);
+        int flags = in.get();
+        int salary = in.getInt();
+        int age = in.getInt();
+        return new MockEmployee(
+                id,
+                readString(in),
+                (flags & HAS_SALARY) != 0 ? salary : null,
+                (flags & HAS_AGE) != 0 ? age : null,
+                title,
+                readString(in));
+    }
+
+    static UUID readId(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    /*
+     * Mapped buffers have no backing array, so bytes are copied into a reused scratch array before decoding.
+     */
+    String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalStateException("String of " + length + " bytes overruns the record");
+        }
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        in.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
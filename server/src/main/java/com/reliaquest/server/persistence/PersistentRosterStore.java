@@ -0,0 +1,259 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the mock roster on disk so the server restarts with the roster it had. The state is a snapshot of generation
+ * {@code g} ({@code snapshot-g.bin}) plus every write since, in log segments {@code wal-g.log}, {@code wal-(g+1).log},
+ * and so on. Recovery maps the latest snapshot and replays the segments from its generation on, which costs a single
+ * sequential read of each file instead of generating a roster.
+ * <p>
+ * After {@code snapshotEvery} writes the log rolls over to a new generation, and a background thread reads the roster
+ * and writes it as that generation's snapshot, after which older files are deleted. The writer holding the lock only
+ * switches segments; reading and writing the roster happen off it. Until the snapshot is in place the previous snapshot
+ * and segments still describe the roster, so a crash at any point loses nothing but a torn last record.
+ * <p>
+ * Writes arrive through {@link MockEmployeeJournal} under the service's write lock, so the log order is the order in
+ * which writes were applied.
+ */
+@Slf4j
+public class PersistentRosterStore implements MockEmployeeJournal, Closeable {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String LOG_PREFIX = "wal-";
+    private static final String LOG_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int snapshotEvery;
+    private final boolean fsync;
+    private final ExecutorService snapshotWriter = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "roster-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Supplier<List<MockEmployee>> roster;
+    private WriteAheadLog segment;
+    private long generation = -1;
+    private long recoveredLogLength;
+    private int logged;
+
+    public PersistentRosterStore(Path directory, int snapshotEvery, boolean fsync) {
+        this.directory = directory;
+        this.snapshotEvery = snapshotEvery;
+        this.fsync = fsync;
+    }
+
+    /**
+     * @return the roster as of the last logged write, or empty when {@code directory} holds no snapshot yet
+     */
+    public synchronized Optional<List<MockEmployee>> recover() {
+        try {
+            Files.createDirectories(directory);
+            final OptionalLong snapshot = generations(SNAPSHOT_PREFIX).max();
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+            final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+            for (MockEmployee mockEmployee : RosterSnapshots.read(snapshotFile(snapshot.getAsLong()))) {
+                employees.put(mockEmployee.getId(), mockEmployee);
+            }
+            generation = snapshot.getAsLong();
+            recoveredLogLength = 0;
+            for (long logGeneration : generations(LOG_PREFIX)
+                    .filter(candidate -> candidate >= snapshot.getAsLong())
+                    .sorted()
+                    .toArray()) {
+                recoveredLogLength = WriteAheadLog.replay(logFile(logGeneration), employees);
+                generation = logGeneration;
+            }
+            return Optional.of(List.copyOf(employees.values()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot recover the mock roster from " + directory, ex);
+        }
+    }
+
+    /**
+     * Starts logging writes. Unless {@link #recover()} found a roster, the current one is first saved as snapshot 0.
+     *
+     * @param roster the live roster, read whenever a new snapshot is due; later snapshots read it on a background
+     *     thread, concurrently with writes
+     */
+    public synchronized void open(Supplier<List<MockEmployee>> roster) {
+        this.roster = roster;
+        try {
+            if (generation < 0) {
+                Files.createDirectories(directory);
+                generation = 0;
+                RosterSnapshots.write(snapshotFile(generation), roster.get());
+                recoveredLogLength = 0;
+            }
+            segment = WriteAheadLog.open(logFile(generation), recoveredLogLength, fsync);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open the mock roster log in " + directory, ex);
+        }
+    }
+
+    @Override
+    public synchronized void created(MockEmployee mockEmployee) {
+        try {
+            rollOverIfDue();
+            segment.appendCreated(mockEmployee);
+            logged++;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot log creation of " + mockEmployee.getId(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void deleted(MockEmployee mockEmployee) {
+        try {
+            rollOverIfDue();
+            segment.appendDeleted(mockEmployee.getId());
+            logged++;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot log deletion of " + mockEmployee.getId(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void createdAll(List<MockEmployee> mockEmployees) {
+        try {
+            rollOverIfDue();
+            segment.appendCreatedAll(mockEmployees);
+            logged += mockEmployees.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot log creation of " + mockEmployees.size() + " employees", ex);
+        }
+    }
+
+    @Override
+    public synchronized void deletedAll(List<MockEmployee> mockEmployees) {
+        try {
+            rollOverIfDue();
+            segment.appendDeletedAll(mockEmployees.stream().map(MockEmployee::getId).toList());
+            logged += mockEmployees.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot log deletion of " + mockEmployees.size() + " employees", ex);
+        }
+    }
+
+    /*
+     * Runs before the pending write or batch is logged, so a batch never straddles two segments. The snapshot is read
+     * some time after the rollover and may already contain writes logged to the new segment since; replaying them is a
+     * no-op, as a creation puts an employee that is already there and a deletion removes one that is already gone.
+     */
+    private void rollOverIfDue() throws IOException {
+        if (logged < snapshotEvery) {
+            return;
+        }
+        final long next = generation + 1;
+        final WriteAheadLog nextSegment = WriteAheadLog.open(logFile(next), 0, fsync);
+        segment.close();
+        segment = nextSegment;
+        generation = next;
+        logged = 0;
+        snapshotWriter.execute(() -> writeSnapshot(next));
+    }
+
+    private void writeSnapshot(long snapshotGeneration) {
+        final long started = System.nanoTime();
+        try {
+            final List<MockEmployee> current = roster.get();
+            RosterSnapshots.write(snapshotFile(snapshotGeneration), current);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    final long fileGeneration = generation(file);
+                    if (fileGeneration >= 0 && fileGeneration < snapshotGeneration) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+            log.info(
+                    "Wrote roster snapshot {} of {} employees in {} ms",
+                    snapshotGeneration,
+                    current.size(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (IOException ex) {
+            log.error(
+                    "Failed to write roster snapshot {}; the log is kept until a later one succeeds",
+                    snapshotGeneration,
+                    ex);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        snapshotWriter.shutdown();
+        try {
+            if (!snapshotWriter.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Roster snapshot still being written at shutdown; it will be redone from the log");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (segment != null) {
+            segment.close();
+        }
+    }
+
+    private Path snapshotFile(long fileGeneration) {
+        return directory.resolve("%s%016d%s".formatted(SNAPSHOT_PREFIX, fileGeneration, SNAPSHOT_SUFFIX));
+    }
+
+    private Path logFile(long fileGeneration) {
+        return directory.resolve("%s%016d%s".formatted(LOG_PREFIX, fileGeneration, LOG_SUFFIX));
+    }
+
+    private LongStream generations(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return LongStream.of(files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .mapToLong(PersistentRosterStore::generation)
+                    .filter(fileGeneration -> fileGeneration >= 0)
+                    .toArray());
+        }
+    }
+
+    /**
+     * @return the generation of a snapshot or log segment, or -1 for any other file
+     */
+    private static long generation(Path file) {
+        final String name = file.getFileName().toString();
+        if (name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX)) {
+            return parseGeneration(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+        }
+        if (name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX)) {
+            return parseGeneration(name.substring(LOG_PREFIX.length(), name.length() - LOG_SUFFIX.length()));
+        }
+        return -1;
+    }
+
+    private static long parseGeneration(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+}
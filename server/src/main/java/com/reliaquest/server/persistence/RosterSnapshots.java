@@ -0,0 +1,88 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Whole-roster snapshot files: a header, a dictionary of distinct titles, then one record per employee in roster order
+ * holding its title code and the {@link MockEmployeeCodec} fields. Snapshots are written to a temporary file and moved
+ * into place, so a file under the final name is always complete, and read through a memory mapping.
+ */
+final class RosterSnapshots {
+
+    private static final int MAGIC = 0x4D454D53; // "MEMS"
+    private static final int FORMAT = 1;
+
+    private RosterSnapshots() {}
+
+    static void write(Path file, List<MockEmployee> roster) throws IOException {
+        final Map<String, Integer> titleCodes = new LinkedHashMap<>();
+        for (MockEmployee mockEmployee : roster) {
+            if (mockEmployee.getTitle() != null) {
+                titleCodes.putIfAbsent(mockEmployee.getTitle(), titleCodes.size());
+            }
+        }
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeInt(roster.size());
+            out.writeInt(titleCodes.size());
+            for (String title : titleCodes.keySet()) {
+                MockEmployeeCodec.writeString(out, title);
+            }
+            for (MockEmployee mockEmployee : roster) {
+                out.writeInt(mockEmployee.getTitle() != null ? titleCodes.get(mockEmployee.getTitle()) : -1);
+                MockEmployeeCodec.writeEmployee(out, mockEmployee);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static List<MockEmployee> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + file + " is larger than 2 GiB");
+            }
+            final MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (in.remaining() < 16 || in.getInt() != MAGIC || in.getInt() != FORMAT) {
+                throw new IOException("Not a roster snapshot: " + file);
+            }
+            final int count = in.getInt();
+            final var codec = new MockEmployeeCodec();
+            final String[] titles = new String[in.getInt()];
+            for (int i = 0; i < titles.length; i++) {
+                titles[i] = codec.readString(in);
+            }
+            final MockEmployee[] roster = new MockEmployee[count];
+            for (int i = 0; i < count; i++) {
+                final int titleCode = in.getInt();
+                roster[i] = codec.readEmployee(in, titleCode >= 0 ? titles[titleCode] : null);
+            }
+            if (in.hasRemaining()) {
+                throw new IOException("Snapshot " + file + " has " + in.remaining() + " unexpected trailing bytes");
+            }
+            return List.of(roster);
+        } catch (BufferUnderflowException | IllegalStateException | IndexOutOfBoundsException ex) {
+            throw new IOException("Snapshot " + file + " is truncated or corrupt", ex);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of roster writes since a snapshot. Each record is its length, a type byte and payload, and a CRC32
+ * of type and payload. A crash can leave a torn last record; {@link #replay(Path, Map)} stops at the first record that
+ * is incomplete or fails its checksum and reports how much of the file is valid, and {@link #open(Path, long, boolean)}
+ * cuts the file there before appending.
+ */
+final class WriteAheadLog implements Closeable {
+
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final RecordBuffer buffer = new RecordBuffer();
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private final CRC32 crc = new CRC32();
+
+    private WriteAheadLog(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    /**
+     * @param validLength bytes to keep, as returned by {@link #replay(Path, Map)}; 0 for a new segment
+     */
+    static WriteAheadLog open(Path file, long validLength, boolean fsync) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(validLength);
+            channel.position(validLength);
+            return new WriteAheadLog(channel, fsync);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Applies the records of {@code file} to {@code roster}, keyed by id in roster order.
+     *
+     * @return length of the valid prefix of the file
+     */
+    static long replay(Path file, Map<UUID, MockEmployee> roster) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Log segment " + file + " is larger than 2 GiB");
+            }
+            final MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final var codec = new MockEmployeeCodec();
+            final var crc = new CRC32();
+            int valid = 0;
+            while (in.remaining() >= Integer.BYTES) {
+                final int length = in.getInt();
+                if (length <= 0 || length > in.remaining() - Integer.BYTES) {
+                    break;
+                }
+                final ByteBuffer record = in.slice(in.position(), length);
+                crc.reset();
+                crc.update(record.duplicate());
+                in.position(in.position() + length);
+                if ((int) crc.getValue() != in.getInt() || !apply(record, codec, roster)) {
+                    break;
+                }
+                valid = in.position();
+            }
+            return valid;
+        }
+    }
+
+    private static boolean apply(ByteBuffer record, MockEmployeeCodec codec, Map<UUID, MockEmployee> roster) {
+        try {
+            switch (record.get()) {
+                case CREATED -> {
+                    final String title = codec.readString(record);
+                    final MockEmployee mockEmployee = codec.readEmployee(record, title);
+                    roster.put(mockEmployee.getId(), mockEmployee);
+                }
+                case DELETED -> roster.remove(MockEmployeeCodec.readId(record));
+                default -> {
+                    return false;
+                }
+            }
+            return !record.hasRemaining();
+        } catch (BufferUnderflowException | IllegalStateException ex) {
+            return false;
+        }
+    }
+
+    void appendCreated(MockEmployee mockEmployee) throws IOException {
+        writeCreated(mockEmployee);
+        sync();
+    }
+
+    void appendDeleted(UUID id) throws IOException {
+        writeDeleted(id);
+        sync();
+    }
+
+    /**
+     * Appends one record per employee and, with {@code fsync}, forces them to the device together.
+     */
+    void appendCreatedAll(List<MockEmployee> mockEmployees) throws IOException {
+        for (MockEmployee mockEmployee : mockEmployees) {
+            writeCreated(mockEmployee);
+        }
+        sync();
+    }
+
+    void appendDeletedAll(List<UUID> ids) throws IOException {
+        for (UUID id : ids) {
+            writeDeleted(id);
+        }
+        sync();
+    }
+
+    private void writeCreated(MockEmployee mockEmployee) throws IOException {
+        begin(CREATED);
+        MockEmployeeCodec.writeString(out, mockEmployee.getTitle());
+        MockEmployeeCodec.writeEmployee(out, mockEmployee);
+        commit();
+    }
+
+    private void writeDeleted(UUID id) throws IOException {
+        begin(DELETED);
+        MockEmployeeCodec.writeId(out, id);
+        commit();
+    }
+
+    private void begin(byte type) throws IOException {
+        buffer.reset();
+        out.writeInt(0);
+        out.writeByte(type);
+    }
+
+    private void commit() throws IOException {
+        final int length = buffer.size() - Integer.BYTES;
+        crc.reset();
+        crc.update(buffer.array(), Integer.BYTES, length);
+        out.writeInt((int) crc.getValue());
+        final ByteBuffer record = ByteBuffer.wrap(buffer.array(), 0, buffer.size());
+        record.putInt(0, length);
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    private void sync() throws IOException {
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+
+        RecordBuffer() {
+            super(256);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.NonNull;
+
+/**
+ * Keeps employees in memory behind three indexes: a concurrent primary index by id and a concurrent sorted index by id
+ * for {@link #findPage(UUID, int)}, both read without locking, and a case-insensitive name index used by
+ * {@link #deleteFirstByName(String)}. Writes are serialized on one lock so the indexes and the insertion order always
+ * change together. Deleting by id or by name never scans the roster: both are hash lookups plus an O(log n) removal
+ * from the sorted index.
+ * <p>
+ * {@link #findAll()} hands out an immutable snapshot. It is rebuilt on the first read after a write rather than on
+ * every write, so bursts of creates and deletes cost O(1) each and only the next roster read pays O(n).
+ */
+public class InMemoryMockEmployeeRepository implements MockEmployeeRepository {
+
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    // Only pages are read from here; point lookups and count() stay on the O(1) hash index.
+    private final NavigableMap<UUID, MockEmployee> byIdOrdered = new ConcurrentSkipListMap<>();
+
+    private final Object writeLock = new Object();
+    // Guarded by writeLock.
+    private final Map<UUID, MockEmployee> insertionOrder = new LinkedHashMap<>();
+    private final Map<String, Deque<UUID>> idsByName = new HashMap<>();
+
+    // Null once a write has made the last snapshot stale.
+    private volatile List<MockEmployee> snapshot = List.of();
+
+    @Override
+    public List<MockEmployee> findAll() {
+        List<MockEmployee> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(insertionOrder.values());
+            }
+            return snapshot;
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    @Override
+    public List<MockEmployee> findPage(UUID after, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        final var candidates = after == null ? byIdOrdered : byIdOrdered.tailMap(after, false);
+        final var page = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+        for (MockEmployee mockEmployee : candidates.values()) {
+            page.add(mockEmployee);
+            if (page.size() == limit) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public MockEmployee save(@NonNull MockEmployee mockEmployee) {
+        synchronized (writeLock) {
+            store(mockEmployee);
+            snapshot = null;
+        }
+        return mockEmployee;
+    }
+
+    @Override
+    public void saveAll(@NonNull Collection<MockEmployee> mockEmployees) {
+        synchronized (writeLock) {
+            mockEmployees.forEach(this::store);
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> deleteById(@NonNull UUID id) {
+        if (!byId.containsKey(id)) {
+            return Optional.empty();
+        }
+        synchronized (writeLock) {
+            MockEmployee removed = insertionOrder.remove(id);
+            if (removed == null) {
+                return Optional.empty();
+            }
+            byId.remove(id);
+            byIdOrdered.remove(id);
+            unindexName(removed);
+            snapshot = null;
+            return Optional.of(removed);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> deleteFirstByName(@NonNull String name) {
+        synchronized (writeLock) {
+            final Optional<MockEmployee> removed = removeFirstByName(name);
+            removed.ifPresent(ignored -> snapshot = null);
+            return removed;
+        }
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> deleteFirstByNames(@NonNull List<String> names) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(names.size());
+        synchronized (writeLock) {
+            for (String name : names) {
+                removed.add(removeFirstByName(name));
+            }
+            snapshot = null;
+        }
+        return removed;
+    }
+
+    @Override
+    public int count() {
+        return byId.size();
+    }
+
+    private void store(MockEmployee mockEmployee) {
+        UUID id = mockEmployee.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Mock employee must have an id");
+        }
+        MockEmployee previous = insertionOrder.put(id, mockEmployee);
+        if (previous != null) {
+            unindexName(previous);
+        }
+        if (mockEmployee.getName() != null) {
+            idsByName
+                    .computeIfAbsent(nameKey(mockEmployee.getName()), ignored -> new ArrayDeque<>())
+                    .addLast(id);
+        }
+        byId.put(id, mockEmployee);
+        byIdOrdered.put(id, mockEmployee);
+    }
+
+    private Optional<MockEmployee> removeFirstByName(String name) {
+        Deque<UUID> ids = idsByName.get(nameKey(name));
+        if (ids == null) {
+            return Optional.empty();
+        }
+        UUID id = ids.pollFirst();
+        if (ids.isEmpty()) {
+            idsByName.remove(nameKey(name));
+        }
+        MockEmployee removed = insertionOrder.remove(id);
+        byId.remove(id);
+        byIdOrdered.remove(id);
+        return Optional.of(removed);
+    }
+
+    private void unindexName(MockEmployee mockEmployee) {
+        if (mockEmployee.getName() == null) {
+            return;
+        }
+        String key = nameKey(mockEmployee.getName());
+        Deque<UUID> ids = idsByName.get(key);
+        if (ids != null) {
+            ids.remove(mockEmployee.getId());
+            if (ids.isEmpty()) {
+                idsByName.remove(key);
+            }
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
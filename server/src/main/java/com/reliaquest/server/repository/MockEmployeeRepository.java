@@ -0,0 +1,55 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Storage for the mock employees. Implementations must be safe for concurrent use by request threads.
+ */
+public interface MockEmployeeRepository {
+
+    /**
+     * @return every stored employee in insertion order, as of a single point in time; later writes do not show up in,
+     * and cannot break iteration of, a list that has already been returned
+     */
+    List<MockEmployee> findAll();
+
+    Optional<MockEmployee> findById(@NonNull UUID id);
+
+    /**
+     * @return up to {@code limit} employees ordered by id, starting with the first id greater than {@code after}, or
+     * with the lowest id when {@code after} is null; ids are compared with {@link UUID#compareTo(UUID)}
+     */
+    List<MockEmployee> findPage(UUID after, int limit);
+
+    /**
+     * Stores {@code mockEmployee}, replacing any employee with the same id.
+     */
+    MockEmployee save(@NonNull MockEmployee mockEmployee);
+
+    void saveAll(@NonNull Collection<MockEmployee> mockEmployees);
+
+    /**
+     * Removes the employee with {@code id}, atomically: when several callers delete the same id at once, exactly one
+     * of them gets the employee back.
+     */
+    Optional<MockEmployee> deleteById(@NonNull UUID id);
+
+    /**
+     * Removes the earliest stored employee whose name equals {@code name}, ignoring case.
+     */
+    Optional<MockEmployee> deleteFirstByName(@NonNull String name);
+
+    /**
+     * {@link #deleteFirstByName(String)} for each of {@code names} in turn, as one write.
+     *
+     * @return the removed employee, or empty, per name
+     */
+    List<Optional<MockEmployee>> deleteFirstByNames(@NonNull List<String> names);
+
+    int count();
+}
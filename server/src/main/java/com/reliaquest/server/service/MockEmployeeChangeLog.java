@@ -0,0 +1,70 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+
+/**
+ * Roster version counter plus a fixed-size ring of the most recent changes. Every write bumps the version by one and
+ * overwrites the oldest retained change, so a client can catch up with {@link #since(long)} as long as it is at most
+ * {@code capacity} versions behind; older clients are told to reload the full roster.
+ * <p>
+ * Version 0 is the roster the server started with. The {@link #getEpoch() epoch} is random per instance, so versions
+ * from before a restart are never mistaken for current ones.
+ */
+public class MockEmployeeChangeLog {
+
+    @Getter
+    private final long epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+
+    private final MockEmployeeChange[] ring;
+    private volatile long version;
+
+    public MockEmployeeChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Change log capacity must be positive, got " + capacity);
+        }
+        this.ring = new MockEmployeeChange[capacity];
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public synchronized MockEmployeeChange append(MockEmployeeChange.Type type, MockEmployee mockEmployee) {
+        final long next = version + 1;
+        final var change = new MockEmployeeChange(next, type, mockEmployee);
+        ring[slot(next)] = change;
+        version = next;
+        return change;
+    }
+
+    /**
+     * Appends one change per employee, in order, as a single step for readers of {@link #since(long)}.
+     */
+    public synchronized void appendAll(MockEmployeeChange.Type type, List<MockEmployee> mockEmployees) {
+        for (MockEmployee mockEmployee : mockEmployees) {
+            append(type, mockEmployee);
+        }
+    }
+
+    public synchronized MockEmployeeChanges since(long since) {
+        final long current = version;
+        if (since > current || since < current - ring.length) {
+            return new MockEmployeeChanges(epoch, current, true, List.of());
+        }
+        final var changes = new ArrayList<MockEmployeeChange>((int) (current - since));
+        for (long v = since + 1; v <= current; v++) {
+            changes.add(ring[slot(v)]);
+        }
+        return new MockEmployeeChanges(epoch, current, false, changes);
+    }
+
+    private int slot(long version) {
+        return (int) (version % ring.length);
+    }
+}
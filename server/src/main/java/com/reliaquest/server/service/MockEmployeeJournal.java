@@ -0,0 +1,42 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+
+/**
+ * Receives every write to the roster, in order, while {@link MockEmployeeService} holds its write lock.
+ */
+public interface MockEmployeeJournal {
+
+    MockEmployeeJournal NONE = new MockEmployeeJournal() {
+        @Override
+        public void created(MockEmployee mockEmployee) {}
+
+        @Override
+        public void deleted(MockEmployee mockEmployee) {}
+    };
+
+    /**
+     * Called before {@code mockEmployee} is stored; a failure leaves the roster unchanged.
+     */
+    void created(MockEmployee mockEmployee);
+
+    /**
+     * Called once {@code mockEmployee} has been picked and removed.
+     */
+    void deleted(MockEmployee mockEmployee);
+
+    /**
+     * {@link #created(MockEmployee)} for a batch; implementations may make the whole batch durable at once.
+     */
+    default void createdAll(List<MockEmployee> mockEmployees) {
+        mockEmployees.forEach(this::created);
+    }
+
+    /**
+     * {@link #deleted(MockEmployee)} for a batch; implementations may make the whole batch durable at once.
+     */
+    default void deletedAll(List<MockEmployee> mockEmployees) {
+        mockEmployees.forEach(this::deleted);
+    }
+}
@@ -4,11 +4,16 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeRoster;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +27,37 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeRepository mockEmployeeRepository;
+
+    private final MockEmployeeChangeLog changeLog;
+
+    private final MockEmployeeJournal journal;
+
+    /*
+     * Writes go through this lock so that every repository change is appended to the journal and the change log in the
+     * order it happened; reads stay lock-free.
+     */
+    private final Object writeLock = new Object();
+
+    /*
+     * Odd while a write holds writeLock, bumped again when it releases it, so a lock-free reader can tell whether a write
+     * overlapped it.
+     */
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    // The last versioned roster handed out, valid for as long as writeSequence still matches.
+    private volatile PublishedRoster publishedRoster;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeRepository.findAll();
+    }
+
+    public List<MockEmployee> getMockEmployeePage(UUID after, int limit) {
+        return mockEmployeeRepository.findPage(after, limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeRepository.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +65,139 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        write(() -> {
+            journal.created(mockEmployee);
+            mockEmployeeRepository.save(mockEmployee);
+            return changeLog.append(MockEmployeeChange.Type.CREATED, mockEmployee);
+        });
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final Optional<MockEmployee> mockEmployee = write(() -> {
+            final var removed = mockEmployeeRepository.deleteFirstByName(input.getName());
+            removed.ifPresent(employee -> {
+                journal.deleted(employee);
+                changeLog.append(MockEmployeeChange.Type.DELETED, employee);
+            });
+            return removed;
+        });
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Creates an employee per input under a single acquisition of the write lock, so the batch is logged and becomes
+     * visible as one contiguous run of changes.
+     *
+     * @return the created employees, in input order
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = new ArrayList<MockEmployee>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            mockEmployees.add(MockEmployee.from(
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()),
+                    input));
         }
+        write(() -> {
+            journal.createdAll(mockEmployees);
+            mockEmployeeRepository.saveAll(mockEmployees);
+            changeLog.appendAll(MockEmployeeChange.Type.CREATED, mockEmployees);
+            return mockEmployees;
+        });
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
 
-        return false;
+    /**
+     * {@link #delete(DeleteMockEmployeeInput)} for each input in turn, under a single acquisition of the write lock.
+     *
+     * @return whether an employee was removed, per input
+     */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final List<String> names = inputs.stream().map(DeleteMockEmployeeInput::getName).toList();
+        final List<Optional<MockEmployee>> removed = write(() -> {
+            final var deleted = mockEmployeeRepository.deleteFirstByNames(names);
+            final var deletedEmployees = deleted.stream().flatMap(Optional::stream).toList();
+            journal.deletedAll(deletedEmployees);
+            changeLog.appendAll(MockEmployeeChange.Type.DELETED, deletedEmployees);
+            return deleted;
+        });
+        final List<MockEmployee> mockEmployees = removed.stream().flatMap(Optional::stream).toList();
+        log.debug("Removed {} of {} requested employees", mockEmployees.size(), inputs.size());
+        return removed.stream().map(Optional::isPresent).toList();
+    }
+
+    /**
+     * Removes the employee with {@code uuid}. Misses return without taking the write lock; among concurrent deletes of
+     * the same id exactly one gets the employee back.
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        if (mockEmployeeRepository.findById(uuid).isEmpty()) {
+            return Optional.empty();
+        }
+        final Optional<MockEmployee> mockEmployee = write(() -> {
+            final var removed = mockEmployeeRepository.deleteById(uuid);
+            removed.ifPresent(employee -> {
+                journal.deleted(employee);
+                changeLog.append(MockEmployeeChange.Type.DELETED, employee);
+            });
+            return removed;
+        });
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee;
     }
+
+    public long getRosterEpoch() {
+        return changeLog.getEpoch();
+    }
+
+    /**
+     * The version identifies the returned employees exactly and can serve as a strong validator. Roster and version are
+     * read without the write lock and kept only if no write overlapped the read; the pair is then reused until the next
+     * write, so repeated conditional GETs cost two volatile reads. Only a read that keeps racing writes falls back to
+     * the lock.
+     */
+    public MockEmployeeRoster getVersionedMockEmployees() {
+        final long sequence = writeSequence.get();
+        final var published = publishedRoster;
+        if (published != null && published.writeSequence() == sequence) {
+            return published.roster();
+        }
+        if ((sequence & 1) == 0) {
+            final var roster = readVersionedRoster();
+            if (writeSequence.get() == sequence) {
+                publishedRoster = new PublishedRoster(sequence, roster);
+                return roster;
+            }
+        }
+        synchronized (writeLock) {
+            final var roster = readVersionedRoster();
+            publishedRoster = new PublishedRoster(writeSequence.get(), roster);
+            return roster;
+        }
+    }
+
+    public MockEmployeeChanges changesSince(long version) {
+        return changeLog.since(version);
+    }
+
+    private MockEmployeeRoster readVersionedRoster() {
+        return new MockEmployeeRoster(changeLog.getEpoch(), changeLog.version(), mockEmployeeRepository.findAll());
+    }
+
+    private <T> T write(Supplier<T> change) {
+        synchronized (writeLock) {
+            writeSequence.incrementAndGet();
+            try {
+                return change.get();
+            } finally {
+                writeSequence.incrementAndGet();
+            }
+        }
+    }
+
+    private record PublishedRoster(long writeSequence, MockEmployeeRoster roster) {}
 }
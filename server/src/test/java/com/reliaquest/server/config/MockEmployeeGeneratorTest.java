@@ -0,0 +1,104 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockEmployeeGeneratorTest {
+
+    @Test
+    void generate_withSameSeed_isReproducible() {
+        // Arrange
+        int count = MockEmployeeGenerator.CHUNK_SIZE * 2 + 17;
+
+        // Act
+        List<MockEmployee> first = new MockEmployeeGenerator(properties(42L, Map.of())).generate(count);
+        List<MockEmployee> second = new MockEmployeeGenerator(properties(42L, Map.of())).generate(count);
+        List<MockEmployee> otherSeed = new MockEmployeeGenerator(properties(43L, Map.of())).generate(count);
+
+        // Assert
+        assertEquals(count, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, otherSeed);
+    }
+
+    @Test
+    void generate_producesCompleteEmployeesWithUniqueIdsAndEmails() {
+        List<MockEmployee> employees = new MockEmployeeGenerator(properties(7L, Map.of())).generate(20_000);
+
+        Set<UUID> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (MockEmployee employee : employees) {
+            assertNotNull(employee.getName());
+            assertNotNull(employee.getTitle());
+            assertTrue(employee.getSalary() >= 30_000 && employee.getSalary() <= 500_000);
+            assertTrue(employee.getAge() >= 16 && employee.getAge() <= 70);
+            assertEquals(4, employee.getId().version());
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+            ids.add(employee.getId());
+            emails.add(employee.getEmail());
+        }
+        assertEquals(employees.size(), ids.size());
+        assertEquals(employees.size(), emails.size());
+    }
+
+    @Test
+    void generate_withWeightedTitles_followsWeights() {
+        // Arrange
+        MockEmployeeGenerator generator =
+                new MockEmployeeGenerator(properties(1L, Map.of("Developer", 3.0, "Manager", 1.0)));
+
+        // Act
+        List<MockEmployee> employees = generator.generate(40_000);
+
+        // Assert
+        long developers = employees.stream()
+                .filter(employee -> employee.getTitle().equals("Developer"))
+                .count();
+        assertEquals(employees.size(), developers
+                + employees.stream()
+                        .filter(employee -> employee.getTitle().equals("Manager"))
+                        .count());
+        assertEquals(0.75, developers / (double) employees.size(), 0.02);
+    }
+
+    @Test
+    void sample_logNormal_staysInRangeAndSkewsLow() {
+        MockEmployeeProperties.Range range =
+                new MockEmployeeProperties.Salary(30_000, 500_000, MockEmployeeProperties.Distribution.LOG_NORMAL);
+        SplittableRandom random = new SplittableRandom(5L);
+
+        int belowMidpoint = 0;
+        for (int i = 0; i < 10_000; i++) {
+            int salary = MockEmployeeGenerator.sample(range, random);
+            assertTrue(salary >= 30_000 && salary <= 500_000);
+            if (salary < 265_000) {
+                belowMidpoint++;
+            }
+        }
+        assertTrue(belowMidpoint > 9_000, "log-normal salaries should cluster well below the range midpoint");
+    }
+
+    @Test
+    void salary_withMinAboveMax_isRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MockEmployeeProperties.Salary(10, 5, MockEmployeeProperties.Distribution.UNIFORM));
+    }
+
+    private static MockEmployeeProperties properties(Long seed, Map<String, Double> titles) {
+        return new MockEmployeeProperties(
+                20,
+                seed,
+                new MockEmployeeProperties.Salary(30_000, 500_000, MockEmployeeProperties.Distribution.UNIFORM),
+                new MockEmployeeProperties.Age(16, 70, MockEmployeeProperties.Distribution.NORMAL),
+                titles);
+    }
+}
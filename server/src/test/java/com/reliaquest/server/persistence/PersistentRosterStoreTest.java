@@ -0,0 +1,170 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentRosterStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_restoresSnapshotPlusLoggedWrites() throws IOException {
+        // Arrange
+        List<MockEmployee> roster =
+                new ArrayList<>(List.of(employee("Tiger Nixon", 320_800), employee("Bill Bob", null)));
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, 100, false)) {
+            assertTrue(store.recover().isEmpty());
+            store.open(() -> List.copyOf(roster));
+            MockEmployee created = employee("Ana Smith", 90_000);
+            store.created(created);
+            roster.add(created);
+            store.deleted(roster.remove(0));
+        }
+
+        // Act
+        try (PersistentRosterStore restarted = new PersistentRosterStore(directory, 100, false)) {
+            List<MockEmployee> recovered = restarted.recover().orElseThrow();
+
+            // Assert
+            assertEquals(roster, recovered);
+        }
+    }
+
+    @Test
+    void recover_restoresLoggedBatches() throws IOException {
+        // Arrange
+        List<MockEmployee> roster = new ArrayList<>(List.of(employee("Tiger Nixon", 320_800)));
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, 100, true)) {
+            store.open(() -> List.copyOf(roster));
+            List<MockEmployee> created = List.of(employee("Ana Smith", 90_000), employee("Bill Bob", null));
+            store.createdAll(created);
+            roster.addAll(created);
+            store.deletedAll(List.of(roster.remove(0), roster.remove(0)));
+        }
+
+        // Act
+        try (PersistentRosterStore restarted = new PersistentRosterStore(directory, 100, false)) {
+            List<MockEmployee> recovered = restarted.recover().orElseThrow();
+
+            // Assert
+            assertEquals(roster, recovered);
+        }
+    }
+
+    @Test
+    void writesPastSnapshotEvery_rollOverToNewSnapshotAndDropOldFiles() throws IOException {
+        // Arrange
+        List<MockEmployee> roster = new CopyOnWriteArrayList<>(List.of(employee("Tiger Nixon", 320_800)));
+
+        // Act
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, 2, false)) {
+            store.recover();
+            store.open(() -> List.copyOf(roster));
+            for (int i = 0; i < 5; i++) {
+                MockEmployee created = employee("Employee " + i, 50_000 + i);
+                store.created(created);
+                roster.add(created);
+            }
+        }
+
+        // Assert
+        assertEquals(
+                List.of("snapshot-0000000000000002.bin", "wal-0000000000000002.log"),
+                fileNames());
+        try (PersistentRosterStore restarted = new PersistentRosterStore(directory, 2, false)) {
+            assertEquals(roster, restarted.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void rollOver_readsRosterOffTheWritingThread() throws IOException {
+        // Arrange
+        List<MockEmployee> roster = new CopyOnWriteArrayList<>(List.of(employee("Tiger Nixon", 320_800)));
+        Thread writer = Thread.currentThread();
+        AtomicInteger readsOnWriter = new AtomicInteger();
+
+        // Act
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, 1, false)) {
+            store.recover();
+            store.open(() -> {
+                if (Thread.currentThread() == writer) {
+                    readsOnWriter.incrementAndGet();
+                }
+                return List.copyOf(roster);
+            });
+            for (int i = 0; i < 3; i++) {
+                MockEmployee created = employee("Employee " + i, 50_000 + i);
+                store.created(created);
+                roster.add(created);
+            }
+        }
+
+        // Assert
+        assertEquals(1, readsOnWriter.get(), "only the initial snapshot is read by the writer");
+        try (PersistentRosterStore restarted = new PersistentRosterStore(directory, 1, false)) {
+            assertEquals(roster, restarted.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void recover_ignoresTornLastRecordAndKeepsAppendingAfterIt() throws IOException {
+        // Arrange
+        List<MockEmployee> roster = new ArrayList<>(List.of(employee("Tiger Nixon", 320_800)));
+        try (PersistentRosterStore store = new PersistentRosterStore(directory, 100, false)) {
+            store.recover();
+            store.open(() -> List.copyOf(roster));
+            MockEmployee created = employee("Bill Bob", 70_000);
+            store.created(created);
+            roster.add(created);
+        }
+        Files.write(
+                directory.resolve("wal-0000000000000000.log"),
+                new byte[] {0, 0, 0, 42, 1, 7},
+                StandardOpenOption.APPEND);
+
+        // Act
+        try (PersistentRosterStore restarted = new PersistentRosterStore(directory, 100, false)) {
+            assertEquals(roster, restarted.recover().orElseThrow());
+            restarted.open(() -> List.copyOf(roster));
+            MockEmployee created = employee("Ana Smith", 90_000);
+            restarted.created(created);
+            roster.add(created);
+        }
+
+        // Assert
+        try (PersistentRosterStore restarted = new PersistentRosterStore(directory, 100, false)) {
+            assertEquals(roster, restarted.recover().orElseThrow());
+        }
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title(salary != null ? "Developer" : null)
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,294 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryMockEmployeeRepositoryTest {
+
+    private final InMemoryMockEmployeeRepository repository = new InMemoryMockEmployeeRepository();
+
+    @Test
+    void findAll_returnsEmployeesInInsertionOrder() {
+        // Arrange
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Bill Bob");
+        MockEmployee third = employee("Ana Smith");
+
+        // Act
+        repository.saveAll(List.of(first, second));
+        repository.save(third);
+
+        // Assert
+        assertEquals(List.of(first, second, third), repository.findAll());
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    void findAll_returnsSnapshotUnaffectedByLaterWrites() {
+        // Arrange
+        MockEmployee first = employee("Tiger Nixon");
+        repository.save(first);
+        List<MockEmployee> snapshot = repository.findAll();
+
+        // Act
+        repository.save(employee("Bill Bob"));
+        repository.deleteFirstByName("Tiger Nixon");
+
+        // Assert
+        assertEquals(List.of(first), snapshot);
+        assertEquals(1, repository.findAll().size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(first));
+    }
+
+    @Test
+    void findById_returnsStoredEmployee() {
+        MockEmployee stored = repository.save(employee("Tiger Nixon"));
+
+        assertEquals(stored, repository.findById(stored.getId()).orElseThrow());
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void findPage_walksEmployeesInIdOrderFromCursor() {
+        // Arrange
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            employees.add(employee("Employee " + i));
+        }
+        repository.saveAll(employees);
+        repository.deleteFirstByName("Employee 2");
+        List<MockEmployee> expected = employees.stream()
+                .filter(employee -> !employee.getName().equals("Employee 2"))
+                .sorted(Comparator.comparing(MockEmployee::getId))
+                .toList();
+
+        // Act
+        List<MockEmployee> first = repository.findPage(null, 3);
+        List<MockEmployee> rest = repository.findPage(first.get(2).getId(), 3);
+
+        // Assert
+        assertEquals(expected.subList(0, 3), first);
+        assertEquals(expected.subList(3, 4), rest);
+        assertEquals(List.of(), repository.findPage(expected.get(3).getId(), 3));
+        assertEquals(List.of(), repository.findPage(null, 0));
+    }
+
+    @Test
+    void deleteFirstByName_ignoresCaseAndRemovesEarliestMatch() {
+        // Arrange
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("TIGER NIXON");
+        MockEmployee other = employee("Bill Bob");
+        repository.saveAll(List.of(first, other, second));
+
+        // Act
+        MockEmployee removed = repository.deleteFirstByName("tiger nixon").orElseThrow();
+
+        // Assert
+        assertSame(first, removed);
+        assertEquals(List.of(other, second), repository.findAll());
+        assertTrue(repository.findById(first.getId()).isEmpty());
+        assertSame(second, repository.deleteFirstByName("Tiger Nixon").orElseThrow());
+        assertTrue(repository.deleteFirstByName("Tiger Nixon").isEmpty());
+    }
+
+    @Test
+    void deleteFirstByNames_removesOneEmployeePerNameInOrder() {
+        // Arrange
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Tiger Nixon");
+        MockEmployee other = employee("Bill Bob");
+        repository.saveAll(List.of(first, other, second));
+
+        // Act
+        List<Optional<MockEmployee>> removed =
+                repository.deleteFirstByNames(List.of("tiger nixon", "Nobody", "Tiger Nixon", "Tiger Nixon"));
+
+        // Assert
+        assertEquals(List.of(Optional.of(first), Optional.empty(), Optional.of(second), Optional.empty()), removed);
+        assertEquals(List.of(other), repository.findAll());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void deleteById_removesEmployeeFromEveryIndex() {
+        // Arrange
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Tiger Nixon");
+        repository.saveAll(List.of(first, second));
+
+        // Act
+        MockEmployee removed = repository.deleteById(first.getId()).orElseThrow();
+
+        // Assert
+        assertSame(first, removed);
+        assertTrue(repository.deleteById(first.getId()).isEmpty());
+        assertTrue(repository.findById(first.getId()).isEmpty());
+        assertEquals(List.of(second), repository.findAll());
+        assertEquals(List.of(second), repository.findPage(null, 10));
+        assertSame(second, repository.deleteFirstByName("Tiger Nixon").orElseThrow());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void concurrentDeletesById_removeEachEmployeeExactlyOnce() throws Exception {
+        // Arrange
+        int deleters = 8;
+        int employees = 20_000;
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            roster.add(employee("Employee" + i));
+        }
+        repository.saveAll(roster);
+        ExecutorService executor = Executors.newFixedThreadPool(deleters);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<UUID> removed = ConcurrentHashMap.newKeySet();
+        List<Future<Integer>> deleterTasks = new ArrayList<>();
+
+        // Act: every deleter races the others over the whole roster, each starting at a different offset.
+        for (int d = 0; d < deleters; d++) {
+            int offset = d * employees / deleters;
+            deleterTasks.add(executor.submit(() -> {
+                start.await();
+                int wins = 0;
+                for (int i = 0; i < employees; i++) {
+                    MockEmployee mockEmployee = roster.get((offset + i) % employees);
+                    Optional<MockEmployee> deleted = repository.deleteById(mockEmployee.getId());
+                    if (deleted.isPresent()) {
+                        assertSame(mockEmployee, deleted.get());
+                        assertTrue(removed.add(mockEmployee.getId()));
+                        wins++;
+                    }
+                }
+                return wins;
+            }));
+        }
+        start.countDown();
+        int wins = 0;
+        for (Future<Integer> deleterTask : deleterTasks) {
+            wins += deleterTask.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(employees, wins);
+        assertEquals(employees, removed.size());
+        assertEquals(0, repository.count());
+        assertTrue(repository.findAll().isEmpty());
+        assertTrue(repository.findPage(null, 10).isEmpty());
+        assertTrue(repository.deleteFirstByName("Employee0").isEmpty());
+    }
+
+    @Test
+    void save_withSameId_replacesEmployeeAndItsNameEntry() {
+        MockEmployee original = repository.save(employee("Tiger Nixon"));
+        MockEmployee renamed = original.toBuilder().name("Bill Bob").build();
+
+        repository.save(renamed);
+
+        assertEquals(List.of(renamed), repository.findAll());
+        assertTrue(repository.deleteFirstByName("Tiger Nixon").isEmpty());
+        assertSame(renamed, repository.deleteFirstByName("Bill Bob").orElseThrow());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void concurrentCreatesAndDeletes_loseNoUpdates() throws Exception {
+        // Arrange
+        int writers = 8;
+        int employeesPerWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Set<UUID> kept = ConcurrentHashMap.newKeySet();
+        List<Future<?>> writerTasks = new ArrayList<>();
+
+        // Act: every writer creates its employees and deletes every other one by name, while readers iterate.
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            writerTasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < employeesPerWriter; i++) {
+                    MockEmployee created = repository.save(employee("Writer" + writer + " Employee" + i));
+                    if (i % 2 == 0) {
+                        assertSame(
+                                created,
+                                repository
+                                        .deleteFirstByName("writer" + writer + " employee" + i)
+                                        .orElseThrow());
+                    } else {
+                        kept.add(created.getId());
+                    }
+                }
+                return null;
+            }));
+        }
+        List<Future<Integer>> readerTasks = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readerTasks.add(executor.submit(() -> {
+                start.await();
+                int reads = 0;
+                while (writing.get()) {
+                    for (MockEmployee mockEmployee : repository.findAll()) {
+                        assertNotNull(mockEmployee.getId());
+                    }
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writerTask : writerTasks) {
+            writerTask.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<Integer> readerTask : readerTasks) {
+            readerTask.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        int expected = writers * employeesPerWriter / 2;
+        assertEquals(expected, kept.size());
+        assertEquals(expected, repository.count());
+        List<MockEmployee> remaining = repository.findAll();
+        assertEquals(expected, remaining.size());
+        for (MockEmployee mockEmployee : remaining) {
+            assertTrue(kept.contains(mockEmployee.getId()));
+            assertSame(mockEmployee, repository.findById(mockEmployee.getId()).orElseThrow());
+        }
+        for (MockEmployee mockEmployee : remaining) {
+            assertSame(
+                    mockEmployee,
+                    repository.deleteFirstByName(mockEmployee.getName()).orElseThrow());
+        }
+        assertEquals(0, repository.count());
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockEmployeeChangeLogTest {
+
+    private final MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(3);
+
+    @Test
+    void since_returnsChangesAfterVersionInOrder() {
+        // Arrange
+        MockEmployee created = employee("Tiger Nixon");
+        changeLog.append(MockEmployeeChange.Type.CREATED, created);
+        changeLog.append(MockEmployeeChange.Type.DELETED, created);
+
+        // Act
+        MockEmployeeChanges all = changeLog.since(0);
+        MockEmployeeChanges latest = changeLog.since(1);
+        MockEmployeeChanges none = changeLog.since(2);
+
+        // Assert
+        assertEquals(
+                List.of(
+                        new MockEmployeeChange(1, MockEmployeeChange.Type.CREATED, created),
+                        new MockEmployeeChange(2, MockEmployeeChange.Type.DELETED, created)),
+                all.changes());
+        assertEquals(2, all.version());
+        assertFalse(all.resync());
+        assertEquals(List.of(new MockEmployeeChange(2, MockEmployeeChange.Type.DELETED, created)), latest.changes());
+        assertEquals(List.of(), none.changes());
+        assertFalse(none.resync());
+        assertEquals(changeLog.getEpoch(), none.epoch());
+    }
+
+    @Test
+    void since_requestsResyncOnceRingHasRolledOver() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            changeLog.append(MockEmployeeChange.Type.CREATED, employee("Employee " + i));
+        }
+
+        // Act
+        MockEmployeeChanges retained = changeLog.since(2);
+        MockEmployeeChanges rolledOver = changeLog.since(1);
+
+        // Assert
+        assertFalse(retained.resync());
+        assertEquals(List.of(3L, 4L, 5L), retained.changes().stream().map(MockEmployeeChange::version).toList());
+        assertTrue(rolledOver.resync());
+        assertEquals(List.of(), rolledOver.changes());
+        assertEquals(5, rolledOver.version());
+    }
+
+    @Test
+    void since_requestsResyncForVersionAheadOfLog() {
+        changeLog.append(MockEmployeeChange.Type.CREATED, employee("Tiger Nixon"));
+
+        assertTrue(changeLog.since(2).resync());
+        assertEquals(1, changeLog.since(2).version());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+}
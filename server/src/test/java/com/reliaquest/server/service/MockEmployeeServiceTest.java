@@ -0,0 +1,71 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeRoster;
+import com.reliaquest.server.repository.InMemoryMockEmployeeRepository;
+import java.util.List;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockEmployeeServiceTest {
+
+    private final MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(16);
+
+    private final MockEmployeeService service = new MockEmployeeService(
+            new Faker(), new InMemoryMockEmployeeRepository(), changeLog, MockEmployeeJournal.NONE);
+
+    @Test
+    void getVersionedMockEmployees_reusesRosterUntilNextWrite() {
+        // Arrange
+        service.create(input("Tiger Nixon"));
+
+        // Act
+        MockEmployeeRoster first = service.getVersionedMockEmployees();
+        MockEmployeeRoster second = service.getVersionedMockEmployees();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, first.version());
+        assertEquals(changeLog.getEpoch(), first.epoch());
+        assertEquals(List.of("Tiger Nixon"), names(first));
+    }
+
+    @Test
+    void getVersionedMockEmployees_afterWrite_returnsNewVersionWithTheWrite() {
+        // Arrange
+        service.create(input("Tiger Nixon"));
+        MockEmployeeRoster before = service.getVersionedMockEmployees();
+
+        // Act
+        service.create(input("Garrett Winters"));
+        MockEmployeeRoster afterCreate = service.getVersionedMockEmployees();
+        final var deleteInput = new DeleteMockEmployeeInput();
+        deleteInput.setName("tiger nixon");
+        service.delete(deleteInput);
+        MockEmployeeRoster afterDelete = service.getVersionedMockEmployees();
+
+        // Assert
+        assertEquals(List.of("Tiger Nixon"), names(before));
+        assertEquals(2, afterCreate.version());
+        assertEquals(List.of("Tiger Nixon", "Garrett Winters"), names(afterCreate));
+        assertEquals(3, afterDelete.version());
+        assertEquals(List.of("Garrett Winters"), names(afterDelete));
+    }
+
+    private static List<String> names(MockEmployeeRoster roster) {
+        return roster.employees().stream().map(MockEmployee::getName).toList();
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100);
+        input.setAge(30);
+        input.setTitle("Developer");
+        return input;
+    }
+}